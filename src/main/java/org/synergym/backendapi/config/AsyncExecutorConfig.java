@@ -0,0 +1,106 @@
+package org.synergym.backendapi.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 작업용 스레드 풀 설정
+ * - 작업 종류별로 풀과 대기 큐 크기를 제한하여 한 작업의 적체가 다른 작업이나 요청 스레드로 번지지 않도록 함
+ * - 풀 상태는 executor.* 지표(name 태그 = 빈 이름)로 노출
+ */
+@Slf4j
+@Configuration
+public class AsyncExecutorConfig {
+
+    @Value("${emotion-classification.pool-size:4}")
+    private int emotionPoolSize;
+
+    @Value("${emotion-classification.queue-capacity:1000}")
+    private int emotionQueueCapacity;
+
+    // Python 서버 GPU 처리량에 맞춰 동시에 실행할 자세 분석 수
+    @Value("${posture-analysis.worker-concurrency:2}")
+    private int postureWorkerConcurrency;
+
+    @Value("${posture-analysis.queue-capacity:100}")
+    private int postureQueueCapacity;
+
+    @Value("${dashboard-query.pool-size:8}")
+    private int dashboardQueryPoolSize;
+
+    /**
+     * 감정 분류 결과 반영 작업 풀
+     * 큐가 가득 차면 작업을 버리고 경고 로그/지표만 남김 (운동 기록 저장에는 영향 없음)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor emotionClassificationExecutor(MeterRegistry meterRegistry) {
+        Counter rejected = Counter.builder("emotion.classification.rejected")
+                .description("대기 큐가 가득 차 버려진 감정 분류 결과 반영 작업 수")
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("emotion-");
+        executor.setCorePoolSize(emotionPoolSize);
+        executor.setMaxPoolSize(emotionPoolSize);
+        executor.setQueueCapacity(emotionQueueCapacity);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            log.warn("Emotion classification queue full, dropping task - queue size: {}", pool.getQueue().size());
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * 자세 분석 작업 풀
+     * 큐가 가득 차면 TaskRejectedException으로 접수를 거절 (호출 측에서 작업 실패 처리)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor postureAnalysisExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("posture-");
+        executor.setCorePoolSize(postureWorkerConcurrency);
+        executor.setMaxPoolSize(postureWorkerConcurrency);
+        executor.setQueueCapacity(postureQueueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 관리자 대시보드 구역별 조회 풀
+     * DB 커넥션 풀보다 작게 유지하고, 큐가 가득 차면 요청 스레드에서 직접 실행
+     */
+    @Bean
+    public ThreadPoolTaskExecutor dashboardQueryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setCorePoolSize(dashboardQueryPoolSize);
+        executor.setMaxPoolSize(dashboardQueryPoolSize);
+        executor.setQueueCapacity(100);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * 조회 수 누적기 즉시 flush 풀
+     * 누적 게시글 수가 한도를 넘었을 때 요청 스레드 대신 flush를 실행 (한 번에 하나만 실행)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor postViewFlushExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("view-flush-");
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        return executor;
+    }
+}
@@ -1,17 +1,74 @@
 package org.synergym.backendapi.config;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
+
+/**
+ * FastAPI(AI 서버) 공용 WebClient 설정
+ * - 모든 FastAPI 연동 클라이언트가 이 WebClient 하나와 커넥션 풀을 공유
+ * - 기본 URL/풀 크기/타임아웃/응답 크기 제한은 fastapi.* 설정으로 변경 (테스트에서는 스텁 서버 주소로 교체)
+ * - 응답 대기 시간은 공용 설정 없이 각 클라이언트에서 fastapi.timeout.* 값으로만 지정
+ *   (공용 읽기 타임아웃을 두면 더 긴 엔드포인트 타임아웃보다 먼저 끊김)
+ * - Spring Boot가 제공하는 WebClient.Builder로 생성하여 호출마다 http.client.requests 타이머(uri별)가 기록되고,
+ *   커넥션 풀 지표는 reactor.netty.connection.provider.* 로 기록
+ */
 @Configuration
 public class FastApiWebClientConfig {
-    
-    @Bean
-    public WebClient fastApiWebClient() {
-        return WebClient.builder()
-            .baseUrl("http://127.0.0.1:8000")
-            .build();
+
+    @Value("${fastapi.base-url:http://127.0.0.1:8000}")
+    private String baseUrl;
+
+    @Value("${fastapi.connect-timeout-ms:3000}")
+    private int connectTimeoutMs;
+
+    // 응답 본문을 메모리에 모을 수 있는 최대 크기 (스트리밍 응답은 이벤트 단위로 적용)
+    @Value("${fastapi.max-in-memory-size:2MB}")
+    private DataSize maxInMemorySize;
+
+    @Value("${fastapi.pool.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${fastapi.pool.pending-acquire-timeout:5s}")
+    private Duration pendingAcquireTimeout;
+
+    // FastAPI(uvicorn) keep-alive 종료(기본 5초)보다 짧게 유지하여 닫힌 연결 재사용 방지
+    @Value("${fastapi.pool.max-idle-time:4s}")
+    private Duration maxIdleTime;
+
+    @Value("${fastapi.pool.max-life-time:5m}")
+    private Duration maxLifeTime;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider fastApiConnectionProvider() {
+        return ConnectionProvider.builder("fastapi")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
     }
 
+    @Bean
+    public WebClient fastApiWebClient(WebClient.Builder builder, ConnectionProvider fastApiConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(fastApiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true);
+
+        return builder
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize((int) maxInMemorySize.toBytes()))
+                .build();
+    }
 }
@@ -0,0 +1,25 @@
+package org.synergym.backendapi.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.synergym.backendapi.service.PostFeedCache;
+import org.synergym.backendapi.service.PostureAnalysisJobService;
+
+@Configuration
+public class RedisConfig {
+
+    // Redis Pub/Sub 수신 (서버 간 로컬 캐시 무효화, 자세 분석 작업 완료 알림)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       PostFeedCache postFeedCache,
+                                                                       PostureAnalysisJobService postureAnalysisJobService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(postFeedCache, new ChannelTopic(PostFeedCache.INVALIDATE_CHANNEL));
+        container.addMessageListener(postureAnalysisJobService, new ChannelTopic(PostureAnalysisJobService.DONE_CHANNEL));
+        return container;
+    }
+}
@@ -71,6 +71,7 @@ public class SecurityConfig {
                         // 관리자 전용
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/users").hasRole("ADMIN") // 모든 사용자 목록 조회
+                        .requestMatchers("/actuator/**").hasRole("ADMIN") // 캐시 적중률 등 운영 지표
 
                         // 회원 권한 (MEMBER, ADMIN)
                         .requestMatchers("/api/exercises/**").hasAnyRole("MEMBER", "ADMIN")
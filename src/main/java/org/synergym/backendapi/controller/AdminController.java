@@ -2,12 +2,14 @@ package org.synergym.backendapi.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.synergym.backendapi.dto.AdminDTO;
 import org.synergym.backendapi.service.AdminService;
 import org.synergym.backendapi.dto.UserSignupStatsResponse;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Slf4j
@@ -44,5 +46,14 @@ public class AdminController {
         return ResponseEntity.ok(adminService.getUserSignupStats(year));
     }
 
+    // 기간별 가입자 수 조회 (from~to 포함, granularity: day/week/month)
+    @GetMapping("/user-signup-stats/histogram")
+    public ResponseEntity<AdminDTO.SignupHistogramResponse> getUserSignupHistogram(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String granularity) {
+        return ResponseEntity.ok(adminService.getUserSignupHistogram(from, to, granularity));
+    }
+
 
 }
\ No newline at end of file
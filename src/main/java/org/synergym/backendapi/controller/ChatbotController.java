@@ -1,17 +1,23 @@
 package org.synergym.backendapi.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import org.synergym.backendapi.dto.ChatRequestDTO;
 import org.synergym.backendapi.dto.ChatResponseDTO;
 import org.synergym.backendapi.dto.ChatMessageDTO;
+import org.synergym.backendapi.dto.ChatSessionDTO;
 import org.synergym.backendapi.service.ChatbotRedisService;
 import org.synergym.backendapi.dto.AnalysisHistoryDTO;
 import org.synergym.backendapi.service.AnalysisHistoryService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.synergym.backendapi.service.AiCoachClient;
 import org.synergym.backendapi.service.YoutubeClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.List;
 import java.util.Map;
@@ -30,35 +36,10 @@ public class ChatbotController {
     public ResponseEntity<ChatResponseDTO> sendMessage(@RequestBody ChatRequestDTO requestDTO) {
         try {
             Integer userId = requestDTO.getUserId();
-            Integer historyId = requestDTO.getHistoryId();
             String type = requestDTO.getType();
 
-            // 1. 분석 이력 조회
-            AnalysisHistoryDTO analysis = analysisHistoryService.getAnalysisHistoryById(historyId);
-
-            // 2. 진단/추천운동 추출
-            String diagnosis = analysis.getDiagnosis(); // JSON string
-            Map<String, Object> recommendedExercise = getRecommendedExerciseFromAnalysis(analysis);
-
-            // 2-1. diagnosis가 JSON 문자열이면 Map으로 변환
-            Map<String, Object> diagnosisMap = null;
-            try {
-                if (diagnosis != null) {
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    diagnosisMap = objectMapper.readValue(diagnosis, Map.class);
-                }
-            } catch (Exception e) {
-                System.out.println("[ERROR] diagnosis JSON 파싱 실패: " + e.getMessage());
-                diagnosisMap = new java.util.HashMap<>();
-            }
-
-            // 3. FastAPI 요청용 body 생성 (snake_case로 맞춤)
-            Map<String, Object> fastApiRequest = new java.util.HashMap<>();
-            fastApiRequest.put("userId", userId);
-            fastApiRequest.put("historyId", historyId);
-            fastApiRequest.put("diagnosis", diagnosisMap);
-            fastApiRequest.put("recommended_exercise", recommendedExercise);
-            fastApiRequest.put("message", requestDTO.getMessage());
+            // 1~3. 분석 이력 조회 후 FastAPI 요청용 body 생성
+            Map<String, Object> fastApiRequest = buildFastApiRequest(requestDTO);
 
             System.out.println("[DEBUG] FastAPI 요청 바디: " + fastApiRequest);
 
@@ -76,15 +57,11 @@ public class ChatbotController {
 
             // 6. 응답 반환 (세션ID도 포함)
             // Redis 저장 전에 세션ID 보장
-            String sessionId = chatbotRedisService.getActiveSession(userId);
-            if (sessionId == null || sessionId.isEmpty()) {
-                sessionId = chatbotRedisService.generateSessionId();
-                chatbotRedisService.setActiveSession(userId, sessionId);
-            }
-            aiResponse.setSessionId(sessionId);
+            aiResponse.setSessionId(resolveSessionId(userId));
 
-            // Redis 저장
-            if (aiResponse.getResponse() != null && !aiResponse.getResponse().isEmpty()) {
+            // Redis 저장 (AI 서버 장애 시 대체 응답은 저장하지 않음)
+            if (aiResponse.getResponse() != null && !aiResponse.getResponse().isEmpty()
+                    && !AiCoachClient.DEGRADED_TYPE.equals(aiResponse.getType())) {
                 if (aiResponse.getVideoUrl() != null && !aiResponse.getVideoUrl().isEmpty()) {
                     System.out.println("[DEBUG] Redis에 forceAddMessage 저장: userId=" + userId + ", sessionId=" + aiResponse.getSessionId() + ", response=" + aiResponse.getResponse() + ", videoUrl=" + aiResponse.getVideoUrl());
                     chatbotRedisService.forceAddMessage(userId, aiResponse.getSessionId(), aiResponse.getResponse(), "video", aiResponse.getVideoUrl());
@@ -121,15 +98,59 @@ public class ChatbotController {
         }
     }
 
-    // 대화 이력 조회 (현재 활성 세션)
+    /**
+     * 메시지 전송 (SSE 스트리밍)
+     * FastAPI 토큰을 도착하는 대로 token 이벤트로 전달하고, 스트림이 끝나면 전체 응답을 Redis에 저장한 뒤
+     * done 이벤트(세션ID + 전체 응답)로 마무리. 응답을 기다리는 동안 요청 스레드를 점유하지 않음
+     */
+    @PostMapping(value = "/send/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamMessage(@RequestBody ChatRequestDTO requestDTO) {
+        Integer userId = requestDTO.getUserId();
+        Map<String, Object> fastApiRequest;
+        String sessionId;
+        try {
+            fastApiRequest = buildFastApiRequest(requestDTO);
+            sessionId = resolveSessionId(userId);
+        } catch (Exception e) {
+            return Flux.just(errorEvent(e));
+        }
+
+        StringBuilder answer = new StringBuilder();
+        Flux<ServerSentEvent<Object>> tokens = aiCoachClient.streamAiCoachRequest(fastApiRequest)
+                .doOnNext(answer::append)
+                .map(token -> ServerSentEvent.<Object>builder(Map.of("token", token)).event("token").build());
+
+        // 스트림 종료 후 전체 응답 저장 (Redis 호출은 블로킹이므로 boundedElastic에서 실행)
+        Mono<ServerSentEvent<Object>> done = Mono.fromCallable(() -> {
+            String response = answer.toString();
+            if (!response.isEmpty()) {
+                chatbotRedisService.saveChatMessage(userId, sessionId, requestDTO.getMessage(), response);
+            }
+            ChatResponseDTO result = new ChatResponseDTO();
+            result.setType("bot");
+            result.setResponse(response);
+            result.setSessionId(sessionId);
+            return ServerSentEvent.<Object>builder(result).event("done").build();
+        }).subscribeOn(Schedulers.boundedElastic());
+
+        // 토큰을 하나도 받기 전에 실패하면(서킷 열림/동시 호출 초과/연결 실패) 대체 응답으로 마무리
+        return tokens.concatWith(done)
+                .onErrorResume(e -> Flux.just(answer.isEmpty() ? degradedEvent(sessionId) : errorEvent(e)));
+    }
+
+    // 대화 이력 조회 (현재 활성 세션, page/size를 주면 최근 메시지부터 페이지 단위로 조회)
     @GetMapping("/history/{userId}")
-    public ResponseEntity<List<ChatMessageDTO>> getHistory(@PathVariable Integer userId) {
+    public ResponseEntity<List<ChatMessageDTO>> getHistory(@PathVariable Integer userId,
+                                                           @RequestParam(required = false) Integer page,
+                                                           @RequestParam(defaultValue = "20") int size) {
         try {
             String sessionId = chatbotRedisService.getActiveSession(userId);
             if (sessionId == null || sessionId.isEmpty()) {
                 return ResponseEntity.ok(List.of());
             }
-            List<ChatMessageDTO> history = chatbotRedisService.getChatHistory(userId, sessionId);
+            List<ChatMessageDTO> history = page != null
+                    ? chatbotRedisService.getChatHistory(userId, sessionId, page, size)
+                    : chatbotRedisService.getChatHistory(userId, sessionId);
             return ResponseEntity.ok(history != null ? history : List.of());
         } catch (Exception e) {
             return ResponseEntity.ok(List.of());
@@ -140,9 +161,13 @@ public class ChatbotController {
     @GetMapping("/history/{userId}/{sessionId}")
     public ResponseEntity<List<ChatMessageDTO>> getHistoryBySession(
             @PathVariable Integer userId,
-            @PathVariable String sessionId) {
+            @PathVariable String sessionId,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(defaultValue = "20") int size) {
         try {
-            List<ChatMessageDTO> history = chatbotRedisService.getChatHistory(userId, sessionId);
+            List<ChatMessageDTO> history = page != null
+                    ? chatbotRedisService.getChatHistory(userId, sessionId, page, size)
+                    : chatbotRedisService.getChatHistory(userId, sessionId);
             return ResponseEntity.ok(history != null ? history : List.of());
         } catch (Exception e) {
             return ResponseEntity.ok(List.of());
@@ -160,6 +185,19 @@ public class ChatbotController {
         }
     }
 
+    // 세션 목록 조회 (최근 활동순, 제목/마지막 메시지 시각/메시지 수 포함)
+    @GetMapping("/sessions/{userId}")
+    public ResponseEntity<List<ChatSessionDTO>> getSessions(@PathVariable Integer userId) {
+        return ResponseEntity.ok(chatbotRedisService.getUserSessionSummaries(userId));
+    }
+
+    // 세션 삭제
+    @DeleteMapping("/sessions/{userId}/{sessionId}")
+    public ResponseEntity<Void> deleteSession(@PathVariable Integer userId, @PathVariable String sessionId) {
+        chatbotRedisService.deleteSession(userId, sessionId);
+        return ResponseEntity.noContent().build();
+    }
+
     // 새로운 세션 시작
     @PostMapping("/new-session/{userId}")
     public ResponseEntity<String> startNewSession(@PathVariable Integer userId) {
@@ -243,6 +281,64 @@ public class ChatbotController {
         }
     }
 
+    // 분석 이력의 진단/추천운동을 포함한 FastAPI 요청용 body 생성
+    private Map<String, Object> buildFastApiRequest(ChatRequestDTO requestDTO) {
+        Integer userId = requestDTO.getUserId();
+        Integer historyId = requestDTO.getHistoryId();
+
+        // 1. 분석 이력 조회
+        AnalysisHistoryDTO analysis = analysisHistoryService.getAnalysisHistoryById(historyId);
+
+        // 2. 진단/추천운동 추출
+        String diagnosis = analysis.getDiagnosis(); // JSON string
+        Map<String, Object> recommendedExercise = getRecommendedExerciseFromAnalysis(analysis);
+
+        // 2-1. diagnosis가 JSON 문자열이면 Map으로 변환
+        Map<String, Object> diagnosisMap = null;
+        try {
+            if (diagnosis != null) {
+                ObjectMapper objectMapper = new ObjectMapper();
+                diagnosisMap = objectMapper.readValue(diagnosis, Map.class);
+            }
+        } catch (Exception e) {
+            System.out.println("[ERROR] diagnosis JSON 파싱 실패: " + e.getMessage());
+            diagnosisMap = new java.util.HashMap<>();
+        }
+
+        // 3. FastAPI 요청용 body 생성 (snake_case로 맞춤)
+        Map<String, Object> fastApiRequest = new java.util.HashMap<>();
+        fastApiRequest.put("userId", userId);
+        fastApiRequest.put("historyId", historyId);
+        fastApiRequest.put("diagnosis", diagnosisMap);
+        fastApiRequest.put("recommended_exercise", recommendedExercise);
+        fastApiRequest.put("message", requestDTO.getMessage());
+
+        return fastApiRequest;
+    }
+
+    // 활성 세션ID 조회 (없으면 새로 생성)
+    private String resolveSessionId(Integer userId) {
+        String sessionId = chatbotRedisService.getActiveSession(userId);
+        if (sessionId == null || sessionId.isEmpty()) {
+            sessionId = chatbotRedisService.generateSessionId();
+            chatbotRedisService.setActiveSession(userId, sessionId);
+        }
+        return sessionId;
+    }
+
+    private ServerSentEvent<Object> degradedEvent(String sessionId) {
+        ChatResponseDTO degraded = AiCoachClient.degradedReply();
+        degraded.setSessionId(sessionId);
+        return ServerSentEvent.<Object>builder(degraded).event("done").build();
+    }
+
+    private ServerSentEvent<Object> errorEvent(Throwable e) {
+        ChatResponseDTO errorResponse = new ChatResponseDTO();
+        errorResponse.setType("error");
+        errorResponse.setResponse("챗봇 응답 중 오류가 발생했습니다. 다시 시도해 주세요.\n" + e.getMessage());
+        return ServerSentEvent.<Object>builder(errorResponse).event("error").build();
+    }
+
     // 추천운동 추출 예시 (실제 로직에 맞게 구현)
     private Map<String, Object> getRecommendedExerciseFromAnalysis(AnalysisHistoryDTO analysis) {
         return analysis.getRecommendedExercise();
@@ -8,7 +8,6 @@ import org.springframework.web.bind.annotation.*;
 import org.synergym.backendapi.dto.CommentDTO;
 import org.synergym.backendapi.service.CommentService;
 
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/comments")
@@ -76,7 +75,7 @@ public class CommentController {
 
     // 내용으로 댓글 검색
     @GetMapping("/search")
-    public ResponseEntity<List<CommentDTO>> searchComments(@RequestParam String keyword) {
-        return ResponseEntity.ok(commentService.searchComments(keyword));
+    public ResponseEntity<Page<CommentDTO>> searchComments(@RequestParam String keyword, Pageable pageable) {
+        return ResponseEntity.ok(commentService.searchComments(keyword, pageable));
     }
 }
\ No newline at end of file
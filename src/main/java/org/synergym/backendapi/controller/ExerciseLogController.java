@@ -3,6 +3,8 @@ package org.synergym.backendapi.controller;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -64,6 +66,18 @@ public class ExerciseLogController {
         return ResponseEntity.ok(logs);
     }
 
+    // 사용자별 기간 내 운동기록 조회 (페이징, 최신순)
+    @GetMapping("/user/{userId}/period")
+    public ResponseEntity<Page<ExerciseLogDTO>> getExerciseLogsByUserAndPeriod(
+            @PathVariable Integer userId,
+            @RequestParam("from") String fromStr,
+            @RequestParam("to") String toStr,
+            Pageable pageable) {
+        Page<ExerciseLogDTO> logs = exerciseLogService.getExerciseLogsByUserAndPeriod(
+                userId, LocalDate.parse(fromStr), LocalDate.parse(toStr), pageable);
+        return ResponseEntity.ok(logs);
+    }
+
     // 운동기록 생성
     @PostMapping
     public ResponseEntity<Integer> createExerciseLog(@RequestBody ExerciseLogDTO exerciseLogDTO) {
@@ -6,6 +6,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.synergym.backendapi.dto.PostDTO;
+import org.synergym.backendapi.dto.PostFeedDTO;
 import org.synergym.backendapi.service.PostService;
 
 import java.util.List;
@@ -35,6 +36,12 @@ public class PostController {
         return ResponseEntity.ok(postService.getPostsWithPagingByPopularity(pageable));
     }
 
+    // 페이징 게시글 조회 (인기 급상승순 - 좋아요/댓글/조회 수 + 작성 시각 감쇠)
+    @GetMapping("/paging/hot")
+    public ResponseEntity<Page<PostDTO>> getHotPosts(Pageable pageable) {
+        return ResponseEntity.ok(postService.getHotPosts(null, pageable));
+    }
+
     // 단일 게시글 조회
     @GetMapping("/{id}")
     public ResponseEntity<PostDTO> getPost(@PathVariable int id) {
@@ -62,10 +69,10 @@ public class PostController {
         return ResponseEntity.noContent().build();
     }
 
-    // 게시글 검색 (제목/내용)
+    // 게시글 검색 (제목/내용, 관련도순 페이징)
     @GetMapping("/search")
-    public ResponseEntity<List<PostDTO>> searchPosts(@RequestParam String keyword) {
-        return ResponseEntity.ok(postService.searchPosts(keyword));
+    public ResponseEntity<Page<PostDTO>> searchPosts(@RequestParam String keyword, Pageable pageable) {
+        return ResponseEntity.ok(postService.searchPosts(keyword, pageable));
     }
 
     // 사용자별 게시글 조회 (페이징)
@@ -85,4 +92,40 @@ public class PostController {
     public ResponseEntity<Page<PostDTO>> getPostsByCategoryIdWithPagingByPopularity(@PathVariable Integer categoryId, Pageable pageable) {
         return ResponseEntity.ok(postService.getPostsByCategoryIdWithPagingByPopularity(categoryId, pageable));
     }
-}
\ No newline at end of file
+
+    // 카테고리별 게시글 조회 (페이징, 인기 급상승순)
+    @GetMapping("/category/{categoryId}/hot")
+    public ResponseEntity<Page<PostDTO>> getHotPostsByCategory(@PathVariable Integer categoryId, Pageable pageable) {
+        return ResponseEntity.ok(postService.getHotPosts(categoryId, pageable));
+    }
+
+    // 게시글 피드 조회 (커서 기반 무한 스크롤, 최신순)
+    @GetMapping("/feed")
+    public ResponseEntity<PostFeedDTO> getRecentFeed(@RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.getRecentFeed(null, cursor, size));
+    }
+
+    // 게시글 피드 조회 (커서 기반 무한 스크롤, 인기순)
+    @GetMapping("/feed/popular")
+    public ResponseEntity<PostFeedDTO> getPopularFeed(@RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.getPopularFeed(null, cursor, size));
+    }
+
+    // 카테고리별 게시글 피드 조회 (커서 기반 무한 스크롤, 최신순)
+    @GetMapping("/category/{categoryId}/feed")
+    public ResponseEntity<PostFeedDTO> getRecentFeedByCategory(@PathVariable Integer categoryId,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.getRecentFeed(categoryId, cursor, size));
+    }
+
+    // 카테고리별 게시글 피드 조회 (커서 기반 무한 스크롤, 인기순)
+    @GetMapping("/category/{categoryId}/feed/popular")
+    public ResponseEntity<PostFeedDTO> getPopularFeedByCategory(@PathVariable Integer categoryId,
+                                                                @RequestParam(required = false) String cursor,
+                                                                @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.getPopularFeed(categoryId, cursor, size));
+    }
+}
@@ -1,11 +1,15 @@
 package org.synergym.backendapi.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.synergym.backendapi.dto.CommentCountSyncStatusDTO;
 import org.synergym.backendapi.dto.PostCounterDTO;
 import org.synergym.backendapi.service.PostCounterService;
+import org.synergym.backendapi.service.PostUniqueViewTracker;
+import org.synergym.backendapi.util.SecurityUtils;
 
 @Slf4j
 @RestController
@@ -19,6 +23,7 @@ import org.synergym.backendapi.service.PostCounterService;
 public class PostCounterController {
 
     private final PostCounterService postCounterService;
+    private final PostUniqueViewTracker postUniqueViewTracker;
 
     // 게시글의 모든 집계 데이터 조회 (좋아요 수, 댓글 수, 조회 수)
     @GetMapping("/{postId}")
@@ -79,12 +84,26 @@ public class PostCounterController {
         }
     }
 
-    // 게시글 조회 수 증가
+    // 게시글 고유 조회자 수 조회 (근사값)
+    @GetMapping("/{postId}/unique-view-count")
+    public ResponseEntity<Long> getUniqueViewCount(@PathVariable Integer postId) {
+        try {
+            log.debug("Getting unique view count for postId: {}", postId);
+            return ResponseEntity.ok(postCounterService.getUniqueViewCount(postId));
+        } catch (Exception e) {
+            log.error("Error getting unique view count for postId: {}", postId, e);
+            return ResponseEntity.ok(0L);
+        }
+    }
+
+    // 게시글 조회 수 증가 (같은 사용자/IP의 반복 조회는 한 번만 집계)
+    // 조회자는 인증 정보와 접속 IP로만 식별 (X-Forwarded-For는 server.forward-headers-strategy로 신뢰하는 프록시에서만 반영)
     @PostMapping("/{postId}/view-count")
-    public ResponseEntity<Void> incrementViewCount(@PathVariable Integer postId) {
+    public ResponseEntity<Void> incrementViewCount(@PathVariable Integer postId, HttpServletRequest request) {
         try {
             log.debug("Incrementing view count for postId: {}", postId);
-            postCounterService.incrementViewCount(postId);
+            String viewerId = postUniqueViewTracker.viewerId(SecurityUtils.getCurrentUserEmail(), request.getRemoteAddr());
+            postCounterService.recordView(postId, viewerId);
             return ResponseEntity.ok().build();
         } catch (Exception e) {
             log.error("Error incrementing view count for postId: {}", postId, e);
@@ -92,17 +111,23 @@ public class PostCounterController {
         }
     }
 
-    // 댓글 수 동기화 (마이그레이션용)
+    // 댓글 수 동기화 (마이그레이션/정합성 보정용, restart=false면 마지막 체크포인트부터 이어서 실행)
     @PostMapping("/sync-comment-counts")
-    public ResponseEntity<String> syncCommentCounts() {
+    public ResponseEntity<CommentCountSyncStatusDTO> syncCommentCounts(@RequestParam(defaultValue = "false") boolean restart) {
         try {
-            log.info("Starting comment count synchronization");
-            postCounterService.syncCommentCounts();
+            log.info("Starting comment count synchronization - restart: {}", restart);
+            CommentCountSyncStatusDTO status = postCounterService.syncCommentCounts(restart);
             log.info("Comment count synchronization completed");
-            return ResponseEntity.ok("댓글 수 동기화가 완료되었습니다.");
+            return ResponseEntity.ok(status);
         } catch (Exception e) {
             log.error("Error during comment count synchronization", e);
-            return ResponseEntity.internalServerError().body("댓글 수 동기화 중 오류가 발생했습니다.");
+            return ResponseEntity.internalServerError().body(postCounterService.getCommentCountSyncStatus());
         }
     }
-} 
\ No newline at end of file
+
+    // 댓글 수 동기화 진행 상황 조회
+    @GetMapping("/sync-comment-counts/status")
+    public ResponseEntity<CommentCountSyncStatusDTO> getCommentCountSyncStatus() {
+        return ResponseEntity.ok(postCounterService.getCommentCountSyncStatus());
+    }
+}
\ No newline at end of file
@@ -49,4 +49,9 @@ public class AdminDTO {
             LocalDate birthDate,
             String gender
     ) {}
+
+    // 기간별 가입자 수 (day/week/month 단위, 가입자가 없는 구간은 0)
+    public record SignupHistogramResponse(LocalDate from, LocalDate to, String granularity, List<SignupBucket> buckets) {
+        public record SignupBucket(LocalDate periodStart, long count) {}
+    }
 }
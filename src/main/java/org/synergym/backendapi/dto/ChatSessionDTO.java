@@ -0,0 +1,24 @@
+package org.synergym.backendapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+
+// 챗봇 세션 목록 DTO
+// 대화 내역을 읽지 않고 세션 인덱스/메타데이터만으로 구성
+public class ChatSessionDTO {
+
+    private String sessionId;  // 세션 ID
+    private String title;  // 세션 제목 (첫 메시지 앞부분)
+    private LocalDateTime lastMessageAt;  // 마지막 메시지 시각
+    private long messageCount;  // 주고받은 메시지 수 (보관은 최근 50개까지)
+    private boolean active;  // 현재 활성 세션 여부
+}
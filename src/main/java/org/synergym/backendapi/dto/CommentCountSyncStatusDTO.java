@@ -0,0 +1,31 @@
+package org.synergym.backendapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+
+// 댓글 수 동기화 작업 진행 상황 DTO
+// 진행률과 보정된 오차(drift) 통계 확인용
+public class CommentCountSyncStatusDTO {
+
+    private boolean running;  // 실행 중 여부
+    private boolean resumed;  // 이전 체크포인트에서 이어서 실행했는지 여부
+    private LocalDateTime startedAt;  // 시작 시각
+    private LocalDateTime finishedAt;  // 종료 시각
+    private int lastPostId;  // 마지막으로 처리한 게시글 ID (체크포인트)
+    private long processedPosts;  // 검사한 게시글 수
+    private long correctedPosts;  // 댓글 수를 보정한 게시글 수
+    private long missingCounters;  // 카운터 행이 없어 새로 만든 게시글 수
+    private long totalAbsDrift;  // 보정한 오차 절댓값 합
+    private int maxDrift;  // 가장 큰 오차 (절댓값 기준, 부호 유지)
+    private Integer maxDriftPostId;  // 가장 큰 오차가 난 게시글 ID
+    private String error;  // 실패 시 오류 메시지
+}
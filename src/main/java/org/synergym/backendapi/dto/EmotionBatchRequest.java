@@ -0,0 +1,10 @@
+package org.synergym.backendapi.dto;
+
+import java.util.List;
+
+/**
+ * FastAPI 감성 분석 배치 요청 DTO입니다.
+ * @param memos 분석할 텍스트 메모 목록 (응답의 results와 같은 순서)
+ */
+public record EmotionBatchRequest(List<String> memos) {
+}
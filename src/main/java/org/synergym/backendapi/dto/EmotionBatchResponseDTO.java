@@ -0,0 +1,10 @@
+package org.synergym.backendapi.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class EmotionBatchResponseDTO {
+    private List<EmotionResponseDTO> results;  // 요청 memos와 같은 순서
+}
@@ -0,0 +1,22 @@
+package org.synergym.backendapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+
+// 게시글 피드(무한 스크롤) 응답 DTO
+// 전체 개수 대신 다음 페이지 커서만 내려줌
+public class PostFeedDTO {
+
+    private List<PostDTO> posts;  // 게시글 목록
+    private String nextCursor;  // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+    private boolean hasNext;  // 다음 페이지 존재 여부
+}
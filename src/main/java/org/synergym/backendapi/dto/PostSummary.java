@@ -0,0 +1,24 @@
+package org.synergym.backendapi.dto;
+
+import java.time.LocalDateTime;
+
+// 게시글 목록 조회용 프로젝션
+// 게시글 + 작성자 이름 + 카테고리 이름 + 집계 데이터를 한 번의 쿼리로 조회 (댓글 엔티티는 로드하지 않음)
+public interface PostSummary {
+
+    Integer getId();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+    Character getUseYn();
+
+    Integer getUserId();
+    String getUserName();
+    Integer getCategoryId();
+    String getCategoryName();
+    String getTitle();
+    String getContent();
+    String getImageUrl();
+    Integer getLikeCount();
+    Integer getCommentCount();
+    Integer getViewCount();
+}
@@ -0,0 +1,41 @@
+package org.synergym.backendapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+
+// 자세 분석 작업 DTO
+// 작업 상태는 Redis에 저장되어 모든 서버에서 조회 가능
+public class PostureAnalysisJobDTO {
+
+    public enum Status { QUEUED, RUNNING, SUCCEEDED, FAILED }
+
+    public static final String TYPE_SINGLE = "single";
+    public static final String TYPE_MERGE = "merge";
+
+    private String jobId;  // 작업 ID
+    private int userId;  // 요청 유저 id
+    private String type;  // 단일(single) / 정면+측면(merge)
+    private String mode;  // 분석 모드 (단일 분석만 사용)
+    private String frontImageUrl;  // 정면 이미지 url
+    private String sideImageUrl;  // 측면 이미지 url (merge만 사용)
+    private Status status;  // 작업 상태
+    private Integer historyId;  // 저장된 분석기록 id (성공 시)
+    private AnalysisHistoryDTO result;  // 분석 결과 (성공 시)
+    private String error;  // 실패 사유 (실패 시)
+    private LocalDateTime submittedAt;  // 접수 시각
+    private LocalDateTime startedAt;  // 분석 시작 시각
+    private LocalDateTime finishedAt;  // 완료 시각
+
+    public boolean isFinished() {
+        return status == Status.SUCCEEDED || status == Status.FAILED;
+    }
+}
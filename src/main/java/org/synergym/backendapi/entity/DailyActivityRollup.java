@@ -0,0 +1,38 @@
+package org.synergym.backendapi.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일별 활동 집계 엔티티 (관리자 대시보드용)
+ * 날짜별 가입자 수, 활성 사용자 수(마지막 수정일 기준), 게시글 수를 저장
+ * 
+ * - 값은 DashboardRollupRepository가 Users/Posts에서 날짜 단위로 다시 계산하여 채움 (JPA로 직접 수정하지 않음)
+ */
+@Entity
+@Table(name = "Daily_Activity_Rollups")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyActivityRollup {
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Column(name = "signup_count", nullable = false)
+    private long signupCount;  // 가입자 수
+
+    @Column(name = "active_user_count", nullable = false)
+    private long activeUserCount;  // 그날이 마지막 수정일인 사용자 수
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;  // 작성된 게시글 수
+
+    @Column(name = "refreshed_at")
+    private LocalDateTime refreshedAt;  // 마지막 집계 시각
+}
@@ -0,0 +1,34 @@
+package org.synergym.backendapi.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일별 분석 집계 엔티티 (관리자 대시보드용)
+ * 날짜/성별/생년별 분석 횟수와 점수 합계를 저장
+ * 
+ * - 값은 DashboardRollupRepository가 Analysis_History에서 날짜 단위로 다시 계산하여 채움 (JPA로 직접 수정하지 않음)
+ * - 평균 점수 = score_sum / (analysis_count * 5) (부위 점수 5개 평균의 평균)
+ */
+@Entity
+@Table(name = "Daily_Analysis_Rollups")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyAnalysisRollup {
+
+    @EmbeddedId
+    private DailyAnalysisRollupId id;
+
+    @Column(name = "analysis_count", nullable = false)
+    private long analysisCount;  // 분석 횟수
+
+    @Column(name = "score_sum", nullable = false)
+    private long scoreSum;  // 부위 점수 5개 합계의 총합
+
+    @Column(name = "refreshed_at")
+    private LocalDateTime refreshedAt;  // 마지막 집계 시각
+}
@@ -0,0 +1,27 @@
+package org.synergym.backendapi.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class DailyAnalysisRollupId implements Serializable {
+
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    // 성별 정보가 없으면 빈 문자열
+    @Column(name = "gender", length = 20)
+    private String gender;
+
+    // 생년 정보가 없으면 0 (나이대는 조회 시점 연도 기준으로 계산)
+    @Column(name = "birth_year")
+    private Integer birthYear;
+}
@@ -11,7 +11,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "Posts")
+@Table(name = "Posts", indexes = {
+        @Index(name = "idx_posts_created_at_id", columnList = "created_at, post_id"),
+        @Index(name = "idx_posts_category_created_at_id", columnList = "category_id, created_at, post_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
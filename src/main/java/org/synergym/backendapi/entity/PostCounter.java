@@ -15,7 +15,11 @@ import lombok.NoArgsConstructor;
  * - PostCounter: "몇 명이 좋아요를 눌렀는지" 집계 숫자만 저장
  */
 @Entity
-@Table(name = "Post_Counters")
+@Table(name = "Post_Counters", indexes = {
+        @Index(name = "idx_post_counters_like_count_id", columnList = "like_count, post_id"),
+        @Index(name = "idx_post_counters_comment_count_id", columnList = "comment_count, post_id"),
+        @Index(name = "idx_post_counters_view_count_id", columnList = "view_count, post_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PostCounter {
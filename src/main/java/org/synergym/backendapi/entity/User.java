@@ -9,7 +9,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
 @Entity
-@Table(name="Users")
+@Table(name="Users", indexes = {
+        @Index(name = "idx_users_created_at", columnList = "created_at"),
+        @Index(name = "idx_users_updated_at", columnList = "updated_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseEntity {
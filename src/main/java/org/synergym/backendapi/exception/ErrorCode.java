@@ -23,10 +23,14 @@ public enum ErrorCode {
     ROUTINE_EXERCISE_NOT_FOUND(HttpStatus.NOT_FOUND, "루틴에 존재하지 않는 운동입니다."),
     NOTIFICATION_NOT_FOUND(HttpStatus.NOT_FOUND, "알림을 찾을 수 없습니다."),
     EMOTION_LOG_NOT_FOUND(HttpStatus.NOT_FOUND, "감성 기록을 찾을 수 없습니다."),
+    ANALYSIS_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "분석 작업을 찾을 수 없습니다."),
 
     // 400
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "입력값이 올바르지 않습니다."),
 
+    // 503
+    ANALYSIS_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "자세 분석 요청이 많아 접수할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
     // 500
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다.");
 
@@ -0,0 +1,28 @@
+package org.synergym.backendapi.exception;
+
+import lombok.Getter;
+
+/**
+ * 서버가 처리 한도에 도달하여 요청을 접수할 수 없을 때 발생시키는 예외 클래스
+ * 예: 자세 분석 작업 대기 큐가 가득 찬 경우 (잘못된 요청이 아니므로 503 + Retry-After로 응답)
+ */
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+
+    /** 에러 코드 (HttpStatus, 메시지 등 포함) */
+    private final ErrorCode errorCode;
+
+    /** 클라이언트가 다시 시도하기까지 기다릴 시간(초) */
+    private final long retryAfterSeconds;
+
+    /**
+     * 생성자
+     * @param errorCode ErrorCode Enum (예: ANALYSIS_QUEUE_FULL)
+     * @param retryAfterSeconds Retry-After 헤더 값(초)
+     */
+    public ServiceOverloadedException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
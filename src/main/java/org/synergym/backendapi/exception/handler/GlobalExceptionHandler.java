@@ -1,6 +1,7 @@
 package org.synergym.backendapi.exception.handler;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -10,6 +11,7 @@ import org.springframework.web.context.request.WebRequest;
 import org.synergym.backendapi.dto.ErrorResponse;
 import org.synergym.backendapi.exception.EntityNotFoundException;
 import org.synergym.backendapi.exception.ErrorCode;
+import org.synergym.backendapi.exception.ServiceOverloadedException;
 
 /**
  * 전역 예외 처리 핸들러
@@ -29,6 +31,22 @@ public class GlobalExceptionHandler {
         return ResponseEntity.notFound().build(); // 404 응답, 바디는 없음
     }
 
+    /**
+     * 처리 한도 초과로 요청을 접수할 수 없을 때 발생하는 예외 처리
+     * 예: 자세 분석 대기 큐가 가득 찼을 때 (Retry-After 헤더로 재시도 시점 안내)
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloadedException(ServiceOverloadedException ex, WebRequest request) {
+        log.warn("ServiceOverloadedException: {}", ex.getMessage());
+        ResponseEntity<ErrorResponse> response = ErrorResponse.toResponseEntity(
+                ex.getErrorCode(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
     /**
      * @Valid 검증 실패 시 처리
      * 예: DTO의 필드 제약 조건 위반 등
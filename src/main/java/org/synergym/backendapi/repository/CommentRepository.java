@@ -3,6 +3,8 @@ package org.synergym.backendapi.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.synergym.backendapi.entity.Comment;
 
 import java.util.List;
@@ -24,6 +26,7 @@ public interface CommentRepository extends JpaRepository<Comment, Integer> {
     // 사용자별 댓글 수 조회
     long countByUserId(Integer userId);
     
-    // 내용으로 댓글 검색 (부분 일치)
-    List<Comment> findByContentContaining(String content);
+    // ID 목록으로 댓글 조회 (작성자/게시글 함께 조회, 검색 결과 조회용)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user JOIN FETCH c.post WHERE c.id IN :ids")
+    List<Comment> findAllWithUserAndPostByIdIn(@Param("ids") List<Integer> ids);
 }
@@ -0,0 +1,150 @@
+package org.synergym.backendapi.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+
+//관리자 대시보드 일별 집계 Repository
+//원본 테이블에서 날짜 범위 단위로 GROUP BY 한 결과로 집계 행을 교체 (DELETE 후 INSERT, 같은 트랜잭션)
+//여러 서버가 동시에 실행해도 advisory lock으로 한 번에 하나씩만 교체
+@Repository
+@RequiredArgsConstructor
+public class DashboardRollupRepository {
+
+    private static final long ROLLUP_LOCK_ID = 7_302_210L;
+
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(?)";
+
+    // 날짜 범위 필터 (created_at/updated_at 인덱스 범위 스캔)
+    private static final String RANGE_FILTER = " AND %1$s >= ? AND %1$s < ?";
+
+    private static final String INSERT_ANALYSIS_SQL =
+            "INSERT INTO daily_analysis_rollups (stat_date, gender, birth_year, analysis_count, score_sum, refreshed_at) " +
+            "SELECT CAST(COALESCE(a.created_at, TIMESTAMP '1970-01-01') AS date), " +
+            "       COALESCE(u.gender, ''), " +
+            "       COALESCE(CAST(EXTRACT(YEAR FROM u.birthday) AS integer), 0), " +
+            "       COUNT(*), " +
+            "       SUM(a.spine_curv_score + a.spine_scol_score + a.pelvic_score + a.neck_score + a.shoulder_score), " +
+            "       now() " +
+            "FROM analysis_history a JOIN users u ON u.user_id = a.user_id " +
+            "WHERE a.use_yn = 'Y'%s " +
+            "GROUP BY 1, 2, 3";
+
+    private static final String INSERT_ACTIVITY_SQL =
+            "INSERT INTO daily_activity_rollups (stat_date, signup_count, active_user_count, post_count, refreshed_at) " +
+            "SELECT stat_date, SUM(signups), SUM(active_users), SUM(posts), now() FROM ( " +
+            "  SELECT CAST(COALESCE(created_at, TIMESTAMP '1970-01-01') AS date) AS stat_date, COUNT(*) AS signups, 0 AS active_users, 0 AS posts " +
+            "  FROM users WHERE 1 = 1%s GROUP BY 1 " +
+            "  UNION ALL " +
+            "  SELECT CAST(updated_at AS date), 0, COUNT(*), 0 " +
+            "  FROM users WHERE updated_at IS NOT NULL%s GROUP BY 1 " +
+            "  UNION ALL " +
+            "  SELECT CAST(COALESCE(created_at, TIMESTAMP '1970-01-01') AS date), 0, 0, COUNT(*) " +
+            "  FROM posts WHERE 1 = 1%s GROUP BY 1 " +
+            ") t GROUP BY stat_date";
+
+    private static final String ANALYSIS_TOTALS_SQL =
+            "SELECT gender, birth_year, SUM(analysis_count) AS analysis_count, SUM(score_sum) AS score_sum " +
+            "FROM daily_analysis_rollups GROUP BY gender, birth_year";
+
+    private static final String ACTIVITY_TOTALS_SQL =
+            "SELECT COALESCE(SUM(signup_count), 0) AS signups, COALESCE(SUM(post_count), 0) AS posts FROM daily_activity_rollups";
+
+    private static final String ANALYSIS_COUNT_SQL =
+            "SELECT COALESCE(SUM(analysis_count), 0) FROM daily_analysis_rollups";
+
+    private static final String ACTIVE_USERS_SQL =
+            "SELECT COALESCE(SUM(active_user_count), 0) FROM daily_activity_rollups WHERE stat_date BETWEEN ? AND ?";
+
+    private static final String ANALYSIS_DATES_BY_USER_SQL =
+            "SELECT DISTINCT CAST(created_at AS date) FROM analysis_history WHERE user_id = ? AND created_at IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 성별/생년별 누적 분석 횟수와 점수 합계 (성별/생년이 없으면 ""/0)
+    public record AnalysisTotalRow(String gender, int birthYear, long analysisCount, long scoreSum) {}
+
+    // 누적 가입자 수와 게시글 수
+    public record ActivityTotals(long signups, long posts) {}
+
+    // from ~ to(포함) 날짜의 분석 집계를 다시 계산
+    @Transactional
+    public void refreshAnalysis(LocalDate from, LocalDate to) {
+        lock();
+        jdbcTemplate.update("DELETE FROM daily_analysis_rollups WHERE stat_date BETWEEN ? AND ?", from, to);
+        Timestamp start = Timestamp.valueOf(from.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(to.plusDays(1).atStartOfDay());
+        jdbcTemplate.update(String.format(INSERT_ANALYSIS_SQL, String.format(RANGE_FILTER, "a.created_at")), start, end);
+    }
+
+    // from ~ to(포함) 날짜의 활동 집계를 다시 계산
+    @Transactional
+    public void refreshActivity(LocalDate from, LocalDate to) {
+        lock();
+        jdbcTemplate.update("DELETE FROM daily_activity_rollups WHERE stat_date BETWEEN ? AND ?", from, to);
+        Timestamp start = Timestamp.valueOf(from.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(to.plusDays(1).atStartOfDay());
+        jdbcTemplate.update(String.format(INSERT_ACTIVITY_SQL,
+                        String.format(RANGE_FILTER, "created_at"),
+                        String.format(RANGE_FILTER, "updated_at"),
+                        String.format(RANGE_FILTER, "created_at")),
+                start, end, start, end, start, end);
+    }
+
+    // 전체 집계 재구성 (오래된 기록 수정/사용자 정보 변경분 보정용)
+    @Transactional
+    public void rebuildAll() {
+        lock();
+        jdbcTemplate.update("DELETE FROM daily_analysis_rollups");
+        jdbcTemplate.update(String.format(INSERT_ANALYSIS_SQL, ""));
+        jdbcTemplate.update("DELETE FROM daily_activity_rollups");
+        jdbcTemplate.update(String.format(INSERT_ACTIVITY_SQL, "", "", ""));
+    }
+
+    public boolean isEmpty() {
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM daily_activity_rollups)", Boolean.class);
+        return !Boolean.TRUE.equals(exists);
+    }
+
+    public List<AnalysisTotalRow> findAnalysisTotals() {
+        return jdbcTemplate.query(ANALYSIS_TOTALS_SQL,
+                (rs, rowNum) -> new AnalysisTotalRow(
+                        rs.getString("gender"),
+                        rs.getInt("birth_year"),
+                        rs.getLong("analysis_count"),
+                        rs.getLong("score_sum")));
+    }
+
+    public ActivityTotals findActivityTotals() {
+        return jdbcTemplate.queryForObject(ACTIVITY_TOTALS_SQL,
+                (rs, rowNum) -> new ActivityTotals(rs.getLong("signups"), rs.getLong("posts")));
+    }
+
+    // 누적 분석 횟수
+    public long sumAnalysisCount() {
+        Long sum = jdbcTemplate.queryForObject(ANALYSIS_COUNT_SQL, Long.class);
+        return sum != null ? sum : 0L;
+    }
+
+    // from ~ to(포함) 날짜에 마지막으로 수정된 사용자 수
+    public long sumActiveUsers(LocalDate from, LocalDate to) {
+        Long sum = jdbcTemplate.queryForObject(ACTIVE_USERS_SQL, Long.class, from, to);
+        return sum != null ? sum : 0L;
+    }
+
+    // 사용자의 분석 기록이 있는 날짜 목록 (성별/생년 변경 시 다시 계산할 날짜)
+    public List<LocalDate> findAnalysisDatesByUser(int userId) {
+        return jdbcTemplate.queryForList(ANALYSIS_DATES_BY_USER_SQL, LocalDate.class, userId);
+    }
+
+    private void lock() {
+        jdbcTemplate.queryForList(LOCK_SQL, ROLLUP_LOCK_ID);
+    }
+}
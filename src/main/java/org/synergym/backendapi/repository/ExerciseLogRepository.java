@@ -4,6 +4,8 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -27,6 +29,28 @@ public interface ExerciseLogRepository extends JpaRepository<ExerciseLog, Intege
     @Query("SELECT e.user.id as userId, COUNT(e) as count FROM ExerciseLog e WHERE e.exerciseDate BETWEEN :startDate AND :endDate GROUP BY e.user.id")
     List<Map<String, Object>> countLogsGroupByUser(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
+    // 사용자 한 명의 기간 내 운동 기록 수
+    long countByUserIdAndExerciseDateBetween(Integer userId, LocalDate startDate, LocalDate endDate);
+
+    // 사용자별 운동 기록 조회 (최신순, 감정 기록 함께 조회 - (user_id, exercise_date) 인덱스 사용)
+    @Query("SELECT e FROM ExerciseLog e LEFT JOIN FETCH e.emotionLog WHERE e.user.id = :userId ORDER BY e.exerciseDate DESC, e.id DESC")
+    List<ExerciseLog> findWithEmotionByUserId(@Param("userId") Integer userId);
+
+    // 사용자별 특정 날짜 운동 기록 조회 (감정 기록 함께 조회)
+    @Query("SELECT e FROM ExerciseLog e LEFT JOIN FETCH e.emotionLog WHERE e.user.id = :userId AND e.exerciseDate = :date ORDER BY e.id DESC")
+    List<ExerciseLog> findWithEmotionByUserIdAndDate(@Param("userId") Integer userId, @Param("date") LocalDate date);
+
+    // 사용자별 기간 내 운동 기록 조회 (페이징, 최신순)
+    @Query(value = "SELECT e FROM ExerciseLog e LEFT JOIN FETCH e.emotionLog " +
+            "WHERE e.user.id = :userId AND e.exerciseDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY e.exerciseDate DESC, e.id DESC",
+            countQuery = "SELECT COUNT(e) FROM ExerciseLog e " +
+                    "WHERE e.user.id = :userId AND e.exerciseDate BETWEEN :startDate AND :endDate")
+    Page<ExerciseLog> findPageByUserIdAndDateBetween(@Param("userId") Integer userId,
+                                                    @Param("startDate") LocalDate startDate,
+                                                    @Param("endDate") LocalDate endDate,
+                                                    Pageable pageable);
+
     // 사용자와 날짜로 운동 기록 조회
     List<ExerciseLog> findByUserAndExerciseDate(User user, LocalDate exerciseDate);
 }
@@ -1,6 +1,8 @@
 package org.synergym.backendapi.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.synergym.backendapi.entity.ExerciseLogRoutine;
 import org.synergym.backendapi.entity.ExerciseLogRoutineId;
 import org.synergym.backendapi.entity.ExerciseLog;
@@ -17,4 +19,8 @@ public interface ExerciseLogRoutineRepository extends JpaRepository<ExerciseLogR
 
     // 여러 운동 기록에 해당하는 루틴 조회
     List<ExerciseLogRoutine> findByExerciseLogIn(List<ExerciseLog> exerciseLogs);
+
+    // 여러 운동 기록의 루틴을 루틴 정보와 함께 한 번에 조회 (운동 기록별 N+1 방지)
+    @Query("SELECT lr FROM ExerciseLogRoutine lr JOIN FETCH lr.routine WHERE lr.exerciseLog.id IN :logIds")
+    List<ExerciseLogRoutine> findWithRoutineByExerciseLogIds(@Param("logIds") List<Integer> logIds);
 } 
\ No newline at end of file
@@ -0,0 +1,178 @@
+package org.synergym.backendapi.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.synergym.backendapi.dto.PostCounterDTO;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+
+//게시글 집계 데이터 배치 Repository
+//Redis 등에 모아둔 증감분(delta)을 JDBC 배치로 Post_Counters에 한 번에 반영
+@Repository
+@RequiredArgsConstructor
+public class PostCounterBatchRepository {
+
+    // 카운터 행이 없으면 생성하고, 있으면 증감분을 더함 (음수 방지)
+    // 이미 삭제된 게시글의 증감분은 무시
+    private static final String UPSERT_DELTA_SQL =
+            "INSERT INTO post_counters (post_id, like_count, comment_count, view_count) " +
+            "SELECT ?, GREATEST(?, 0), GREATEST(?, 0), GREATEST(?, 0) " +
+            "WHERE EXISTS (SELECT 1 FROM posts WHERE post_id = ?) " +
+            "ON CONFLICT (post_id) DO UPDATE SET " +
+            "  like_count = GREATEST(post_counters.like_count + ?, 0), " +
+            "  comment_count = GREATEST(post_counters.comment_count + ?, 0), " +
+            "  view_count = GREATEST(post_counters.view_count + ?, 0)";
+
+    // post_id 기준 keyset 페이지의 게시글에 대해 저장된 댓글 수와 실제 댓글 수(GROUP BY)를 함께 조회
+    private static final String COMMENT_COUNT_CHUNK_SQL =
+            "WITH page AS (SELECT post_id FROM posts WHERE post_id > ? ORDER BY post_id LIMIT ?) " +
+            "SELECT page.post_id, pc.comment_count AS stored_count, COALESCE(c.actual_count, 0) AS actual_count " +
+            "FROM page " +
+            "LEFT JOIN post_counters pc ON pc.post_id = page.post_id " +
+            "LEFT JOIN (SELECT cm.post_id, COUNT(*) AS actual_count FROM comments cm " +
+            "           JOIN page ON page.post_id = cm.post_id GROUP BY cm.post_id) c ON c.post_id = page.post_id " +
+            "ORDER BY page.post_id";
+
+    // 댓글 수를 실제 값으로 덮어씀 (카운터 행이 없으면 생성)
+    private static final String UPSERT_COMMENT_COUNT_SQL =
+            "INSERT INTO post_counters (post_id, like_count, comment_count, view_count) " +
+            "SELECT ?, 0, ?, 0 " +
+            "WHERE EXISTS (SELECT 1 FROM posts WHERE post_id = ?) " +
+            "ON CONFLICT (post_id) DO UPDATE SET comment_count = EXCLUDED.comment_count";
+
+    // 카운터 행이 없는 게시글에 행 생성 (인기순 피드는 post_counters 기준으로 조회하므로 모든 게시글에 행이 있어야 함)
+    private static final String INSERT_MISSING_COUNTERS_SQL =
+            "INSERT INTO post_counters (post_id, like_count, comment_count, view_count) " +
+            "SELECT p.post_id, 0, (SELECT COUNT(*) FROM comments cm WHERE cm.post_id = p.post_id), 0 " +
+            "FROM posts p " +
+            "WHERE NOT EXISTS (SELECT 1 FROM post_counters pc WHERE pc.post_id = p.post_id) " +
+            "ON CONFLICT (post_id) DO NOTHING";
+
+    private static final String FIND_COUNTERS_SQL =
+            "SELECT post_id, like_count, comment_count, view_count FROM post_counters WHERE post_id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 게시글별 증감분
+    public record CounterDelta(int postId, long likeDelta, long commentDelta, long viewDelta) {
+
+        public boolean isEmpty() {
+            return likeDelta == 0 && commentDelta == 0 && viewDelta == 0;
+        }
+    }
+
+    // 게시글별 저장된 댓글 수(카운터 행이 없으면 null)와 실제 댓글 수
+    public record CommentCountRow(int postId, Integer storedCount, int actualCount) {
+
+        public boolean hasDrift() {
+            return storedCount == null || storedCount != actualCount;
+        }
+
+        public int drift() {
+            return actualCount - (storedCount != null ? storedCount : 0);
+        }
+    }
+
+    // 증감분 목록을 하나의 배치로 반영
+    @Transactional
+    public void applyDeltas(List<CounterDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_DELTA_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                CounterDelta delta = deltas.get(i);
+                ps.setInt(1, delta.postId());
+                ps.setLong(2, delta.likeDelta());
+                ps.setLong(3, delta.commentDelta());
+                ps.setLong(4, delta.viewDelta());
+                ps.setInt(5, delta.postId());
+                ps.setLong(6, delta.likeDelta());
+                ps.setLong(7, delta.commentDelta());
+                ps.setLong(8, delta.viewDelta());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return deltas.size();
+            }
+        });
+    }
+
+    // afterPostId 다음 게시글부터 chunkSize개의 댓글 수 비교 데이터 조회
+    public List<CommentCountRow> findCommentCountChunk(int afterPostId, int chunkSize) {
+        return jdbcTemplate.query(COMMENT_COUNT_CHUNK_SQL,
+                (rs, rowNum) -> new CommentCountRow(
+                        rs.getInt("post_id"),
+                        rs.getObject("stored_count", Integer.class),
+                        rs.getInt("actual_count")),
+                afterPostId, chunkSize);
+    }
+
+    // 댓글 수 보정값을 하나의 배치로 반영
+    @Transactional
+    public void correctCommentCounts(List<CommentCountRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_COMMENT_COUNT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                CommentCountRow row = rows.get(i);
+                ps.setInt(1, row.postId());
+                ps.setInt(2, row.actualCount());
+                ps.setInt(3, row.postId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    // 카운터 행이 없는 게시글에 행 생성 후 생성된 행 수 반환
+    @Transactional
+    public int insertMissingCounters() {
+        return jdbcTemplate.update(INSERT_MISSING_COUNTERS_SQL);
+    }
+
+    // 게시글 ID 목록의 현재 집계 데이터 조회
+    public List<PostCounterDTO> findCounters(List<Integer> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(FIND_COUNTERS_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("integer", postIds.toArray())),
+                (rs, rowNum) -> toCounter(rs));
+    }
+
+    // 집계 항목(like_count/comment_count/view_count) 기준 상위 limit개 조회 (인덱스 범위 스캔)
+    public List<PostCounterDTO> findTopCounters(String column, int limit) {
+        if (!List.of("like_count", "comment_count", "view_count").contains(column)) {
+            throw new IllegalArgumentException("Unknown counter column: " + column);
+        }
+        return jdbcTemplate.query(
+                "SELECT post_id, like_count, comment_count, view_count FROM post_counters " +
+                "ORDER BY " + column + " DESC, post_id DESC LIMIT ?",
+                (rs, rowNum) -> toCounter(rs),
+                limit);
+    }
+
+    private PostCounterDTO toCounter(ResultSet rs) throws SQLException {
+        return PostCounterDTO.builder()
+                .postId(rs.getInt("post_id"))
+                .likeCount(rs.getInt("like_count"))
+                .commentCount(rs.getInt("comment_count"))
+                .viewCount(rs.getInt("view_count"))
+                .build();
+    }
+}
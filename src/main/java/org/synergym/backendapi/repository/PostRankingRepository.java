@@ -0,0 +1,46 @@
+package org.synergym.backendapi.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+
+//게시글 랭킹 계산용 Repository
+//랭킹 점수 계산에 필요한 값(작성 시각, 집계 데이터)만 keyset 페이지 단위로 조회
+@Repository
+@RequiredArgsConstructor
+public class PostRankingRepository {
+
+    private static final String FIND_RANKING_INPUTS_SQL =
+            "SELECT p.post_id, p.category_id, p.created_at, " +
+            "COALESCE(pc.like_count, 0) AS like_count, " +
+            "COALESCE(pc.comment_count, 0) AS comment_count, " +
+            "COALESCE(pc.view_count, 0) AS view_count " +
+            "FROM posts p LEFT JOIN post_counters pc ON pc.post_id = p.post_id " +
+            "WHERE p.post_id > ? AND p.created_at >= ? AND p.use_yn = 'Y' " +
+            "ORDER BY p.post_id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 랭킹 계산 입력값
+    public record RankingInput(int postId, int categoryId, LocalDateTime createdAt,
+                               int likeCount, int commentCount, int viewCount) {
+    }
+
+    // createdAfter 이후 작성된 게시글 중 afterPostId 다음부터 chunkSize개 조회
+    public List<RankingInput> findRankingInputs(LocalDateTime createdAfter, int afterPostId, int chunkSize) {
+        return jdbcTemplate.query(FIND_RANKING_INPUTS_SQL,
+                (rs, rowNum) -> new RankingInput(
+                        rs.getInt("post_id"),
+                        rs.getInt("category_id"),
+                        rs.getTimestamp("created_at").toLocalDateTime(),
+                        rs.getInt("like_count"),
+                        rs.getInt("comment_count"),
+                        rs.getInt("view_count")),
+                afterPostId, Timestamp.valueOf(createdAfter), chunkSize);
+    }
+}
@@ -5,15 +5,36 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.synergym.backendapi.dto.PostSummary;
 import org.synergym.backendapi.entity.Post;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Integer> {
+
+    // 목록 조회용 프로젝션 SELECT 절 (작성자/카테고리/집계 데이터를 조인으로 함께 조회)
+    // PostCounter가 없는 게시글은 댓글 수를 서브쿼리로 계산
+    String SUMMARY_SELECT =
+            "SELECT p.id AS id, p.createdAt AS createdAt, p.updatedAt AS updatedAt, p.useYn AS useYn, " +
+            "u.id AS userId, u.name AS userName, c.id AS categoryId, c.name AS categoryName, " +
+            "p.title AS title, p.content AS content, p.imageUrl AS imageUrl, " +
+            "COALESCE(pc.likeCount, 0) AS likeCount, " +
+            "COALESCE(pc.commentCount, CAST((SELECT COUNT(cm) FROM Comment cm WHERE cm.post = p) AS Integer)) AS commentCount, " +
+            "COALESCE(pc.viewCount, 0) AS viewCount " +
+            "FROM Post p JOIN p.user u JOIN p.category c LEFT JOIN p.postCounter pc ";
+
+    // 인기순 피드용 프로젝션 SELECT 절 (post_counters에서 출발하여 (like_count, post_id) 인덱스를 역순으로 탐색)
+    // 카운터 행이 없는 게시글은 PostCounterServiceImpl.createMissingCounters에서 주기적으로 채움
+    String POPULAR_SUMMARY_SELECT =
+            "SELECT p.id AS id, p.createdAt AS createdAt, p.updatedAt AS updatedAt, p.useYn AS useYn, " +
+            "u.id AS userId, u.name AS userName, c.id AS categoryId, c.name AS categoryName, " +
+            "p.title AS title, p.content AS content, p.imageUrl AS imageUrl, " +
+            "pc.likeCount AS likeCount, pc.commentCount AS commentCount, pc.viewCount AS viewCount " +
+            "FROM PostCounter pc JOIN pc.post p JOIN p.user u JOIN p.category c ";
     
-    // 제목 또는 내용으로 검색 (부분 일치)
-    List<Post> findByTitleContainingOrContentContaining(String title, String content);
-    
+
     // 사용자별 게시글 조회 (페이징)
     Page<Post> findByUserId(Integer userId, Pageable pageable);
     
@@ -31,22 +52,80 @@ public interface PostRepository extends JpaRepository<Post, Integer> {
     @Query("SELECT p FROM Post p LEFT JOIN p.postCounter pc ORDER BY COALESCE(pc.likeCount, 0) DESC")
     Page<Post> findAllByOrderByLikeCountDesc(Pageable pageable);
     
-    // 조회수 순으로 인기 게시글 조회 (상위 10개)
-    @Query("SELECT p.title, COALESCE(pc.viewCount, 0), c.name, p.id " +
-           "FROM Post p LEFT JOIN p.postCounter pc LEFT JOIN p.category c " +
-           "ORDER BY COALESCE(pc.viewCount, 0) DESC")
-    List<Object[]> findPopularPostsByViews();
-    
-    // 댓글수 순으로 인기 게시글 조회 (상위 10개)
-    @Query("SELECT p.title, COALESCE(pc.commentCount, 0), c.name, p.id " +
-           "FROM Post p LEFT JOIN p.postCounter pc LEFT JOIN p.category c " +
-           "ORDER BY COALESCE(pc.commentCount, 0) DESC")
-    List<Object[]> findPopularPostsByComments();
-    
-    // 좋아요 순으로 인기 게시글 조회 (상위 10개)
-    @Query("SELECT p.title, COALESCE(pc.likeCount, 0), c.name, p.id " +
-           "FROM Post p LEFT JOIN p.postCounter pc LEFT JOIN p.category c " +
-           "ORDER BY COALESCE(pc.likeCount, 0) DESC")
-    List<Object[]> findPopularPostsByLikes();
+    // ID 목록으로 게시글 제목/카테고리 이름 조회 (인기 게시글 표시용)
+    @Query("SELECT p.id, p.title, c.name FROM Post p JOIN p.category c WHERE p.id IN :ids")
+    List<Object[]> findTitlesByIdIn(@Param("ids") List<Integer> ids);
+
+    // 전체 게시글 목록 조회 (프로젝션)
+    @Query(SUMMARY_SELECT)
+    List<PostSummary> findAllSummaries();
+
+    // 게시글 단건 조회 (프로젝션)
+    @Query(SUMMARY_SELECT + "WHERE p.id = :id")
+    Optional<PostSummary> findSummaryById(@Param("id") Integer id);
+
+    // 전체 게시글 목록 조회 (프로젝션, 페이징, 최신순)
+    @Query(value = SUMMARY_SELECT + "ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<PostSummary> findSummariesOrderByCreatedAtDesc(Pageable pageable);
+
+    // 전체 게시글 목록 조회 (프로젝션, 페이징, 인기순)
+    @Query(value = SUMMARY_SELECT + "ORDER BY COALESCE(pc.likeCount, 0) DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<PostSummary> findSummariesOrderByLikeCountDesc(Pageable pageable);
+
+    // 사용자별 게시글 목록 조회 (프로젝션, 페이징)
+    @Query(value = SUMMARY_SELECT + "WHERE u.id = :userId",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.user.id = :userId")
+    Page<PostSummary> findSummariesByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+    // 카테고리별 게시글 목록 조회 (프로젝션, 페이징, 최신순)
+    @Query(value = SUMMARY_SELECT + "WHERE c.id = :categoryId ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.category.id = :categoryId")
+    Page<PostSummary> findSummariesByCategoryIdOrderByCreatedAtDesc(@Param("categoryId") Integer categoryId, Pageable pageable);
+
+    // 카테고리별 게시글 목록 조회 (프로젝션, 페이징, 인기순)
+    @Query(value = SUMMARY_SELECT + "WHERE c.id = :categoryId ORDER BY COALESCE(pc.likeCount, 0) DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.category.id = :categoryId")
+    Page<PostSummary> findSummariesByCategoryIdOrderByLikeCountDesc(@Param("categoryId") Integer categoryId, Pageable pageable);
+
+    // ID 목록으로 게시글 조회 (프로젝션, 검색 결과 조회용 - 순서는 호출 측에서 맞춤)
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<PostSummary> findSummariesByIdIn(@Param("ids") List<Integer> ids);
+
+    // 피드 조회 (keyset, 최신순) - (createdAt, postId) 커서 이후 게시글, count 쿼리 없음
+    @Query(SUMMARY_SELECT +
+           "WHERE (p.createdAt, p.id) < (:createdAt, :postId) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummary> findRecentFeed(@Param("createdAt") LocalDateTime createdAt,
+                                     @Param("postId") Integer postId,
+                                     Pageable pageable);
+
+    // 카테고리별 피드 조회 (keyset, 최신순)
+    @Query(SUMMARY_SELECT +
+           "WHERE c.id = :categoryId " +
+           "AND (p.createdAt, p.id) < (:createdAt, :postId) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummary> findRecentFeedByCategoryId(@Param("categoryId") Integer categoryId,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("postId") Integer postId,
+                                                 Pageable pageable);
+
+    // 피드 조회 (keyset, 인기순) - (likeCount, postId) 커서 이후 게시글
+    @Query(POPULAR_SUMMARY_SELECT +
+           "WHERE (pc.likeCount, pc.postId) < (:likeCount, :postId) " +
+           "ORDER BY pc.likeCount DESC, pc.postId DESC")
+    List<PostSummary> findPopularFeed(@Param("likeCount") Integer likeCount,
+                                      @Param("postId") Integer postId,
+                                      Pageable pageable);
 
+    // 카테고리별 피드 조회 (keyset, 인기순)
+    @Query(POPULAR_SUMMARY_SELECT +
+           "WHERE c.id = :categoryId " +
+           "AND (pc.likeCount, pc.postId) < (:likeCount, :postId) " +
+           "ORDER BY pc.likeCount DESC, pc.postId DESC")
+    List<PostSummary> findPopularFeedByCategoryId(@Param("categoryId") Integer categoryId,
+                                                  @Param("likeCount") Integer likeCount,
+                                                  @Param("postId") Integer postId,
+                                                  Pageable pageable);
 }
@@ -0,0 +1,106 @@
+package org.synergym.backendapi.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+
+//게시글/댓글 전문 검색 색인 Repository
+//posts.search_vector, comments.search_vector (tsvector + GIN 인덱스)를 JPA 매핑 없이 JDBC로 관리
+@Repository
+@RequiredArgsConstructor
+public class SearchIndexRepository {
+
+    // 제목 토큰은 가중치 A, 내용 토큰은 가중치 D (제목 일치가 더 높은 순위)
+    private static final String UPDATE_POST_SQL =
+            "UPDATE posts SET search_vector = " +
+            "setweight(CAST(? AS tsvector), 'A') || setweight(CAST(? AS tsvector), 'D') " +
+            "WHERE post_id = ?";
+
+    private static final String UPDATE_COMMENT_SQL =
+            "UPDATE comments SET search_vector = CAST(? AS tsvector) WHERE comment_id = ?";
+
+    private static final String SEARCH_POSTS_SQL =
+            "SELECT post_id FROM posts, CAST(? AS tsquery) query " +
+            "WHERE search_vector @@ query " +
+            "ORDER BY ts_rank(search_vector, query) DESC, post_id DESC " +
+            "LIMIT ? OFFSET ?";
+
+    private static final String COUNT_POSTS_SQL =
+            "SELECT COUNT(*) FROM posts WHERE search_vector @@ CAST(? AS tsquery)";
+
+    private static final String SEARCH_COMMENTS_SQL =
+            "SELECT comment_id FROM comments, CAST(? AS tsquery) query " +
+            "WHERE search_vector @@ query " +
+            "ORDER BY ts_rank(search_vector, query) DESC, comment_id DESC " +
+            "LIMIT ? OFFSET ?";
+
+    private static final String COUNT_COMMENTS_SQL =
+            "SELECT COUNT(*) FROM comments WHERE search_vector @@ CAST(? AS tsquery)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 색인되지 않은 행 (기존 데이터 백필용)
+    public record UnindexedRow(int id, String title, String content) {
+    }
+
+    // 검색 컬럼과 GIN 인덱스 생성 (이미 있으면 무시)
+    public void createSchema() {
+        jdbcTemplate.execute("ALTER TABLE posts ADD COLUMN IF NOT EXISTS search_vector tsvector");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_posts_search_vector ON posts USING GIN (search_vector)");
+        jdbcTemplate.execute("ALTER TABLE comments ADD COLUMN IF NOT EXISTS search_vector tsvector");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_comments_search_vector ON comments USING GIN (search_vector)");
+    }
+
+    public void updatePost(int postId, String titleTokens, String contentTokens) {
+        jdbcTemplate.update(UPDATE_POST_SQL, titleTokens, contentTokens, postId);
+    }
+
+    public void updateComment(int commentId, String contentTokens) {
+        jdbcTemplate.update(UPDATE_COMMENT_SQL, contentTokens, commentId);
+    }
+
+    public List<UnindexedRow> findUnindexedPosts(int limit) {
+        return jdbcTemplate.query(
+                "SELECT post_id, title, content FROM posts WHERE search_vector IS NULL ORDER BY post_id LIMIT ?",
+                (rs, rowNum) -> new UnindexedRow(rs.getInt("post_id"), rs.getString("title"), rs.getString("content")),
+                limit);
+    }
+
+    public List<UnindexedRow> findUnindexedComments(int limit) {
+        return jdbcTemplate.query(
+                "SELECT comment_id, content FROM comments WHERE search_vector IS NULL ORDER BY comment_id LIMIT ?",
+                (rs, rowNum) -> new UnindexedRow(rs.getInt("comment_id"), null, rs.getString("content")),
+                limit);
+    }
+
+    public void updatePosts(List<Object[]> args) {
+        jdbcTemplate.batchUpdate(UPDATE_POST_SQL, args);
+    }
+
+    public void updateComments(List<Object[]> args) {
+        jdbcTemplate.batchUpdate(UPDATE_COMMENT_SQL, args);
+    }
+
+    // 관련도순 게시글 ID 조회
+    public List<Integer> searchPostIds(String query, int limit, long offset) {
+        return jdbcTemplate.queryForList(SEARCH_POSTS_SQL, Integer.class, query, limit, offset);
+    }
+
+    public long countPosts(String query) {
+        Long count = jdbcTemplate.queryForObject(COUNT_POSTS_SQL, Long.class, query);
+        return count != null ? count : 0L;
+    }
+
+    // 관련도순 댓글 ID 조회
+    public List<Integer> searchCommentIds(String query, int limit, long offset) {
+        return jdbcTemplate.queryForList(SEARCH_COMMENTS_SQL, Integer.class, query, limit, offset);
+    }
+
+    public long countComments(String query) {
+        Long count = jdbcTemplate.queryForObject(COUNT_COMMENTS_SQL, Long.class, query);
+        return count != null ? count : 0L;
+    }
+}
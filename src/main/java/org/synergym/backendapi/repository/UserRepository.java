@@ -53,4 +53,18 @@ public interface UserRepository extends JpaRepository<User, Integer> {
      * @return 사용자 수
      */
     long countByUpdatedAtBetween(LocalDateTime start, LocalDateTime end);
-}
\ No newline at end of file
+
+    /**
+     * 기간 내 날짜별 가입자 수 조회 (created_at 인덱스 범위 스캔)
+     * @param start 시작 일시 (포함)
+     * @param end 종료 일시 (미포함)
+     * @return Object 배열 리스트, 각 배열은 [Date signupDate, Long count] 형태입니다.
+     */
+    @Query(value = "SELECT CAST(created_at AS date) AS signup_date, COUNT(*) AS signup_count " +
+            "FROM users " +
+            "WHERE created_at >= :start AND created_at < :end " +
+            "GROUP BY CAST(created_at AS date) " +
+            "ORDER BY signup_date",
+            nativeQuery = true)
+    List<Object[]> countSignupsByDate(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+}
@@ -1,6 +1,7 @@
 package org.synergym.backendapi.service;
 
 import org.synergym.backendapi.dto.AdminDTO;
+import java.time.LocalDate;
 import java.util.List;
 import org.synergym.backendapi.dto.UserSignupStatsResponse;
 
@@ -31,4 +32,13 @@ public interface AdminService {
      */
     UserSignupStatsResponse getUserSignupStats(int year);
 
+    /**
+     * 기간별 가입자 수 조회 (관리자 차트용)
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     * @param granularity 집계 단위 (day, week, month)
+     * @return 구간별 가입자 수 응답 객체
+     */
+    AdminDTO.SignupHistogramResponse getUserSignupHistogram(LocalDate from, LocalDate to, String granularity);
+
 }
\ No newline at end of file
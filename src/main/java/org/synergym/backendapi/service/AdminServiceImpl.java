@@ -2,6 +2,7 @@ package org.synergym.backendapi.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.synergym.backendapi.dto.AdminDTO;
 import org.synergym.backendapi.dto.ExerciseDTO;
@@ -13,10 +14,16 @@ import org.synergym.backendapi.repository.UserRepository;
 import org.synergym.backendapi.dto.UserSignupStatsResponse;
 
 import java.math.BigInteger;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.time.temporal.WeekFields;
 import java.util.Locale;
@@ -31,109 +38,138 @@ public class AdminServiceImpl implements AdminService {
     private final PostRepository postRepository;
     private final AnalysisHistoryRepository analysisHistoryRepository;
     private final ExerciseService exerciseService;
+    private final PostTopKTracker postTopKTracker;
+    private final DashboardRollupService dashboardRollupService;
+    private final DashboardQueryRunner dashboardQueryRunner;
+
+    private static final int POPULAR_POST_LIMIT = 10;
+    private static final DashboardRollupService.ScoreSummary EMPTY_SCORE = new DashboardRollupService.ScoreSummary(0, 0.0);
+
+    // 연도별 가입 통계 캐시 (지난 연도는 변하지 않으므로 계속 보관, 올해는 TTL 동안만)
+    private final Map<Integer, UserSignupStatsResponse> pastYearSignupStats = new ConcurrentHashMap<>();
+    private volatile CachedSignupStats currentYearSignupStats;
+
+    private record CachedSignupStats(int year, long computedAt, UserSignupStatsResponse response) {}
+
+    @Value("${admin.signup-stats.current-year-ttl-ms:300000}")
+    private long signupStatsCacheTtlMs;
+
+    @Value("${admin.signup-stats.max-range-days:1100}")
+    private long signupHistogramMaxRangeDays;
 
     @Override
     public AdminDTO.DashboardResponse getDashboardData() {
-        // --- 1. 기본 통계 (Stats) 계산 ---
-        long totalMembers = userRepository.count();
-        long totalPosts = postRepository.count();
-        // '총 분석 횟수'는 AnalysisHistory 테이블의 전체 레코드 수로 계산
-        long totalAnalysis = analysisHistoryRepository.count();
+        // --- 0. 구역별 조회를 동시에 시작 (실패/타임아웃 구역은 빈 값) ---
+        // 통계/성별·나이대 분석은 일별 집계 테이블에서 조회 (비활성화 시 원본 테이블 집계)
+        boolean rollup = dashboardRollupService.isEnabled();
+        CompletableFuture<DashboardRollupService.Totals> totalsFuture = dashboardQueryRunner.submit("stats",
+                () -> rollup ? dashboardRollupService.getTotals() : loadLiveTotals(),
+                DashboardRollupService.Totals.EMPTY);
+        CompletableFuture<DashboardRollupService.ScoreBreakdown> breakdownFuture = dashboardQueryRunner.submit("analysis",
+                () -> rollup ? dashboardRollupService.getScoreBreakdown() : loadLiveScoreBreakdown(),
+                DashboardRollupService.ScoreBreakdown.EMPTY);
+        CompletableFuture<List<ExerciseDTO>> likesFuture = dashboardQueryRunner.submit("exercise-likes",
+                () -> exerciseService.getPopularExercisesByLikes(250), List.of());
+        CompletableFuture<List<ExerciseDTO>> routinesFuture = dashboardQueryRunner.submit("exercise-routines",
+                () -> exerciseService.getPopularExercisesByRoutines(250), List.of());
+        CompletableFuture<List<AdminDTO.DashboardResponse.PopularPostDto>> viewsFuture = dashboardQueryRunner.submit("post-views",
+                () -> getPopularPosts(PostTopKTracker.Metric.VIEWS), List.of());
+        CompletableFuture<List<AdminDTO.DashboardResponse.PopularPostDto>> commentsFuture = dashboardQueryRunner.submit("post-comments",
+                () -> getPopularPosts(PostTopKTracker.Metric.COMMENTS), List.of());
+        CompletableFuture<List<AdminDTO.DashboardResponse.PopularPostDto>> postLikesFuture = dashboardQueryRunner.submit("post-likes",
+                () -> getPopularPosts(PostTopKTracker.Metric.LIKES), List.of());
 
-        // 주간 활성 사용자 계산 (기존 로직 유지)
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime oneWeekAgo = now.minusWeeks(1);
-        LocalDateTime twoWeeksAgo = now.minusWeeks(2);
-        long currentWeekActiveUsers = userRepository.countByUpdatedAtAfter(oneWeekAgo);
-        long previousWeekActiveUsers = userRepository.countByUpdatedAtBetween(twoWeeksAgo, oneWeekAgo);
+        // --- 1. 기본 통계 (Stats) 계산 ---
+        DashboardRollupService.Totals totals = totalsFuture.join();
+        long currentWeekActiveUsers = totals.currentWeekActiveUsers();
+        long previousWeekActiveUsers = totals.previousWeekActiveUsers();
         double weeklyChange = (previousWeekActiveUsers > 0) ? ((double) (currentWeekActiveUsers - previousWeekActiveUsers) / previousWeekActiveUsers) * 100 : 0.0;
 
         AdminDTO.DashboardResponse.StatsDto stats = new AdminDTO.DashboardResponse.StatsDto(
-                totalMembers, totalPosts, totalAnalysis,
+                totals.totalMembers(), totals.totalPosts(), totals.totalAnalysis(),
                 new AdminDTO.DashboardResponse.WeeklyActiveUsersDto(currentWeekActiveUsers, Double.parseDouble(String.format("%.1f", weeklyChange)))
         );
 
         // --- 2. 성별 분석 데이터 계산 (점수 및 횟수) ---
-        // 2.1. 성별 평균 점수
-        List<Object[]> scoreResults = analysisHistoryRepository.findAverageScoreByGender();
-        Map<String, Double> averageScoresByGender = scoreResults.stream()
-                .collect(Collectors.toMap(
-                        result -> (String) result[0],
-                        result -> (Double) result[1]
-                ));
-        double maleAverageScore = averageScoresByGender.getOrDefault("MALE", 0.0);
-        double femaleAverageScore = averageScoresByGender.getOrDefault("FEMALE", 0.0);
-
-        // 2.2. 성별 분석 횟수
-        List<Object[]> countResults = analysisHistoryRepository.countByGender();
-        Map<String, Long> countsByGender = countResults.stream()
-                .collect(Collectors.toMap(
-                        result -> (String) result[0],
-                        result -> (Long) result[1]
-                ));
-        long maleCount = countsByGender.getOrDefault("MALE", 0L);
-        long femaleCount = countsByGender.getOrDefault("FEMALE", 0L);
-
-        // 2.3. DTO 생성 (점수와 횟수 포함)
+        DashboardRollupService.ScoreBreakdown breakdown = breakdownFuture.join();
+        DashboardRollupService.ScoreSummary male = breakdown.byGender().getOrDefault("MALE", EMPTY_SCORE);
+        DashboardRollupService.ScoreSummary female = breakdown.byGender().getOrDefault("FEMALE", EMPTY_SCORE);
         AdminDTO.DashboardResponse.GenderAnalysisDto genderAnalysis = new AdminDTO.DashboardResponse.GenderAnalysisDto(
-                roundToOneDecimal(maleAverageScore),
-                roundToOneDecimal(femaleAverageScore),
+                roundToOneDecimal(male.averageScore()),
+                roundToOneDecimal(female.averageScore()),
                 100.0, // 점수는 100점 만점으로 가정
-                maleCount,
-                femaleCount
+                male.count(),
+                female.count()
         );
 
-        // --- 3. 나이대별 분석 데이터 계산 (점수 및 횟수) ---
-        // 3.1. 나이대별 분석 횟수 조회 후 Map으로 변환
-        Map<String, Long> countsByAgeGroup = analysisHistoryRepository.countByAgeGroup().stream()
-                .collect(Collectors.toMap(
-                        result -> (String) result[0],
-                        result -> (Long) result[1]
-                ));
-
-        // 3.2. 나이대별 평균 점수를 조회하며, 위에서 구한 횟수 Map을 사용하여 DTO 생성
-        List<AdminDTO.DashboardResponse.AgeGroupAnalysisDTO> ageGroupAnalysis =
-                analysisHistoryRepository.findAverageScoreByAgeGroup().stream()
-                        .map(result -> {
-                            String ageGroup = (String) result[0];
-                            double averageScore = Double.parseDouble(String.format("%.1f", (Double) result[1]));
-                            long count = countsByAgeGroup.getOrDefault(ageGroup, 0L); // 맵에서 횟수 조회
-                            return new AdminDTO.DashboardResponse.AgeGroupAnalysisDTO(ageGroup, averageScore, count);
-                        })
-                        .collect(Collectors.toList());
-
-        // --- 4. 인기 운동 데이터 조회 ---
-        List<ExerciseDTO> likesTop3 = exerciseService.getPopularExercisesByLikes(250);
-        List<ExerciseDTO> routinesTop3 = exerciseService.getPopularExercisesByRoutines(250);
-        List<AdminDTO.DashboardResponse.PopularExerciseDto> popularByLikes = likesTop3.stream()
+        // --- 3. 나이대별 분석 데이터 계산 (점수 및 횟수, 나이대 순) ---
+        List<AdminDTO.DashboardResponse.AgeGroupAnalysisDTO> ageGroupAnalysis = breakdown.byAgeGroup().entrySet().stream()
+                .map(entry -> new AdminDTO.DashboardResponse.AgeGroupAnalysisDTO(
+                        entry.getKey(),
+                        Double.parseDouble(String.format("%.1f", entry.getValue().averageScore())),
+                        entry.getValue().count()))
+                .collect(Collectors.toList());
+
+        // --- 4. 인기 운동 데이터 ---
+        List<AdminDTO.DashboardResponse.PopularExerciseDto> popularByLikes = likesFuture.join().stream()
                 .map(e -> new AdminDTO.DashboardResponse.PopularExerciseDto(e.getName(), e.getLikeCount().intValue()))
                 .collect(Collectors.toList());
-        List<AdminDTO.DashboardResponse.PopularExerciseDto> popularByRoutine = routinesTop3.stream()
+        List<AdminDTO.DashboardResponse.PopularExerciseDto> popularByRoutine = routinesFuture.join().stream()
                 .map(e -> new AdminDTO.DashboardResponse.PopularExerciseDto(e.getName(), e.getRoutineCount().intValue()))
                 .collect(Collectors.toList());
 
-        // --- 5. 인기 게시글 데이터 조회 ---
-        List<Object[]> viewsResults = postRepository.findPopularPostsByViews();
-        List<AdminDTO.DashboardResponse.PopularPostDto> popularByViews = viewsResults.stream()
-                .limit(10)
-                .map(result -> new AdminDTO.DashboardResponse.PopularPostDto((String) result[0], ((Number) result[1]).intValue(), (String) result[2], ((Number) result[3]).intValue()))
-                .collect(Collectors.toList());
+        // --- 5. 인기 게시글 데이터 (항목별 상위 10개, Redis Sorted Set) ---
+        // --- 6. 최종 응답 생성 ---
+        return new AdminDTO.DashboardResponse(stats, genderAnalysis, ageGroupAnalysis, popularByLikes, popularByRoutine,
+                viewsFuture.join(), commentsFuture.join(), postLikesFuture.join());
+    }
 
-        List<Object[]> commentsResults = postRepository.findPopularPostsByComments();
-        List<AdminDTO.DashboardResponse.PopularPostDto> popularByComments = commentsResults.stream()
-                .limit(10)
-                .map(result -> new AdminDTO.DashboardResponse.PopularPostDto((String) result[0], ((Number) result[1]).intValue(), (String) result[2], ((Number) result[3]).intValue()))
-                .collect(Collectors.toList());
+    // 원본 테이블에서 직접 집계한 상단 통계 (dashboard-rollup.enabled=false일 때)
+    private DashboardRollupService.Totals loadLiveTotals() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime oneWeekAgo = now.minusWeeks(1);
+        LocalDateTime twoWeeksAgo = now.minusWeeks(2);
+        return new DashboardRollupService.Totals(
+                userRepository.count(),
+                postRepository.count(),
+                analysisHistoryRepository.count(),
+                userRepository.countByUpdatedAtAfter(oneWeekAgo),
+                userRepository.countByUpdatedAtBetween(twoWeeksAgo, oneWeekAgo));
+    }
 
-        List<Object[]> likesResults = postRepository.findPopularPostsByLikes();
-        List<AdminDTO.DashboardResponse.PopularPostDto> popularByPostLikes = likesResults.stream()
-                .limit(10)
-                .map(result -> new AdminDTO.DashboardResponse.PopularPostDto((String) result[0], ((Number) result[1]).intValue(), (String) result[2], ((Number) result[3]).intValue()))
-                .collect(Collectors.toList());
+    // 원본 테이블에서 직접 집계한 성별/나이대별 분석 통계 (dashboard-rollup.enabled=false일 때)
+    private DashboardRollupService.ScoreBreakdown loadLiveScoreBreakdown() {
+        Map<String, Long> countsByGender = analysisHistoryRepository.countByGender().stream()
+                .collect(Collectors.toMap(result -> (String) result[0], result -> (Long) result[1]));
+        Map<String, DashboardRollupService.ScoreSummary> byGender = analysisHistoryRepository.findAverageScoreByGender().stream()
+                .collect(Collectors.toMap(
+                        result -> (String) result[0],
+                        result -> new DashboardRollupService.ScoreSummary(countsByGender.getOrDefault((String) result[0], 0L), (Double) result[1])));
 
-        // --- 6. 최종 응답 생성 ---
-        return new AdminDTO.DashboardResponse(stats, genderAnalysis, ageGroupAnalysis, popularByLikes, popularByRoutine,
-                popularByViews, popularByComments, popularByPostLikes);
+        Map<String, Long> countsByAgeGroup = analysisHistoryRepository.countByAgeGroup().stream()
+                .collect(Collectors.toMap(result -> (String) result[0], result -> (Long) result[1]));
+        Map<String, DashboardRollupService.ScoreSummary> byAgeGroup = new TreeMap<>();
+        analysisHistoryRepository.findAverageScoreByAgeGroup().forEach(result -> byAgeGroup.put((String) result[0],
+                new DashboardRollupService.ScoreSummary(countsByAgeGroup.getOrDefault((String) result[0], 0L), (Double) result[1])));
+
+        return new DashboardRollupService.ScoreBreakdown(byGender, byAgeGroup);
+    }
+
+    // 인기 게시글 상위 N개 (제목/카테고리는 해당 게시글만 기본 키로 조회)
+    private List<AdminDTO.DashboardResponse.PopularPostDto> getPopularPosts(PostTopKTracker.Metric metric) {
+        Map<Integer, Integer> top = postTopKTracker.getTop(metric, POPULAR_POST_LIMIT);
+        if (top.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, Object[]> titles = postRepository.findTitlesByIdIn(List.copyOf(top.keySet())).stream()
+                .collect(Collectors.toMap(row -> ((Number) row[0]).intValue(), row -> row));
+        return top.entrySet().stream()
+                .filter(entry -> titles.containsKey(entry.getKey()))
+                .map(entry -> {
+                    Object[] row = titles.get(entry.getKey());
+                    return new AdminDTO.DashboardResponse.PopularPostDto((String) row[1], entry.getValue(), (String) row[2], entry.getKey());
+                })
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -147,8 +183,14 @@ public class AdminServiceImpl implements AdminService {
     public AdminDTO.DashboardResponse.AnalysisDistributionResponse getAnalysisDistributionData() {
         log.info("--- 분석 분포 데이터 서비스 로직 시작 ---");
 
+        // 성별/나이대별 분포 조회를 동시에 시작 (실패/타임아웃 시 해당 분포만 빈 목록)
+        CompletableFuture<List<Object[]>> genderFuture = dashboardQueryRunner.submit("distribution-gender",
+                analysisHistoryRepository::findUserCountByAnalysisCountPerGender, List.of());
+        CompletableFuture<List<Object[]>> ageFuture = dashboardQueryRunner.submit("distribution-age",
+                analysisHistoryRepository::findUserCountByAnalysisCountPerAgeGroup, List.of());
+
         log.info("[1/4] 성별 분석 분포 데이터 조회를 시작합니다...");
-        List<Object[]> genderResults = analysisHistoryRepository.findUserCountByAnalysisCountPerGender();
+        List<Object[]> genderResults = genderFuture.join();
         log.info("  ▶ Raw DB 결과 (성별): 총 {}건", genderResults.size());
 
         if (!genderResults.isEmpty()) {
@@ -170,7 +212,7 @@ public class AdminServiceImpl implements AdminService {
                 }).collect(Collectors.toList());
 
         log.info("[3/4] 나이대별 분석 분포 데이터 조회를 시작합니다...");
-        List<Object[]> ageResults = analysisHistoryRepository.findUserCountByAnalysisCountPerAgeGroup();
+        List<Object[]> ageResults = ageFuture.join();
         log.info("  ▶ Raw DB 결과 (나이대별): 총 {}건", ageResults.size());
 
         if (!ageResults.isEmpty()) {
@@ -197,8 +239,27 @@ public class AdminServiceImpl implements AdminService {
 
     @Override
     public UserSignupStatsResponse getUserSignupStats(int year) {
-        // 전체 사용자 목록 조회
-        List<User> users = userRepository.findAll();
+        int currentYear = LocalDate.now().getYear();
+
+        // 지난 연도는 결과가 바뀌지 않으므로 한 번만 계산
+        if (year < currentYear) {
+            return pastYearSignupStats.computeIfAbsent(year, this::computeUserSignupStats);
+        }
+
+        // 올해(또는 이후)는 짧은 시간 동안만 재사용
+        CachedSignupStats cached = currentYearSignupStats;
+        if (cached != null && cached.year() == year
+                && cached.computedAt() + signupStatsCacheTtlMs > System.currentTimeMillis()) {
+            return cached.response();
+        }
+        UserSignupStatsResponse response = computeUserSignupStats(year);
+        currentYearSignupStats = new CachedSignupStats(year, System.currentTimeMillis(), response);
+        return response;
+    }
+
+    private UserSignupStatsResponse computeUserSignupStats(int year) {
+        // 해당 연도의 날짜별 가입자 수만 조회 (최대 366행)
+        Map<LocalDate, Long> dailySignups = loadDailySignups(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
 
         // 월별로 주차별 가입자 수를 저장할 맵 생성 (key: 월, value: 주차별 가입 수 배열[5칸])
         Map<Integer, int[]> monthWeekCounts = new java.util.HashMap<>();
@@ -207,21 +268,16 @@ public class AdminServiceImpl implements AdminService {
         // Locale 기준 주차 계산 방식 설정 (한국 기준: 월요일 시작)
         WeekFields weekFields = WeekFields.of(Locale.getDefault());
 
-        // 사용자 생성일 기준으로 연도, 월, 주차별 가입자 수 집계
-        for (User user : users) {
-            LocalDateTime created = user.getCreatedAt();
-
-            // 입력된 연도와 다른 경우 무시
-            if (created.getYear() != year) continue;
-
-            int month = created.getMonthValue();  // 가입 월
-            int weekOfMonth = created.toLocalDate().get(weekFields.weekOfMonth());  // 가입 주차 (1~5)
+        // 가입일 기준으로 월, 주차별 가입자 수 집계
+        dailySignups.forEach((date, count) -> {
+            int month = date.getMonthValue();  // 가입 월
+            int weekOfMonth = date.get(weekFields.weekOfMonth());  // 가입 주차 (1~5)
 
             // 1~5주차에 해당하는 경우만 카운팅 (6주차는 제외)
             if (weekOfMonth >= 1 && weekOfMonth <= 5) {
-                monthWeekCounts.get(month)[weekOfMonth - 1]++;
+                monthWeekCounts.get(month)[weekOfMonth - 1] += count.intValue();
             }
-        }
+        });
 
         // 응답용 DTO 리스트 생성
         List<UserSignupStatsResponse.MonthlySignupStats> monthly = new java.util.ArrayList<>();
@@ -240,6 +296,51 @@ public class AdminServiceImpl implements AdminService {
         return new UserSignupStatsResponse(monthly);
     }
 
+    @Override
+    public AdminDTO.SignupHistogramResponse getUserSignupHistogram(LocalDate from, LocalDate to, String granularity) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalStateException("조회 기간이 올바르지 않습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= signupHistogramMaxRangeDays) {
+            throw new IllegalStateException("조회 기간은 최대 " + signupHistogramMaxRangeDays + "일까지 가능합니다.");
+        }
+        String unit = granularity == null ? "day" : granularity.toLowerCase(Locale.ROOT);
+        WeekFields weekFields = WeekFields.of(Locale.getDefault());
+        UnaryOperator<LocalDate> periodStart = switch (unit) {
+            case "day" -> date -> date;
+            case "week" -> date -> date.with(weekFields.dayOfWeek(), 1);
+            case "month" -> date -> date.withDayOfMonth(1);
+            default -> throw new IllegalStateException("지원하지 않는 집계 단위입니다: " + granularity);
+        };
+        UnaryOperator<LocalDate> nextPeriod = switch (unit) {
+            case "day" -> date -> date.plusDays(1);
+            case "week" -> date -> date.plusWeeks(1);
+            default -> date -> date.plusMonths(1);
+        };
+
+        // 구간별 합산 (가입자가 없는 구간도 0으로 포함)
+        Map<LocalDate, Long> buckets = new java.util.LinkedHashMap<>();
+        for (LocalDate period = periodStart.apply(from); !period.isAfter(to); period = nextPeriod.apply(period)) {
+            buckets.put(period, 0L);
+        }
+        loadDailySignups(from, to).forEach((date, count) -> buckets.merge(periodStart.apply(date), count, Long::sum));
+
+        List<AdminDTO.SignupHistogramResponse.SignupBucket> result = buckets.entrySet().stream()
+                .map(entry -> new AdminDTO.SignupHistogramResponse.SignupBucket(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+        return new AdminDTO.SignupHistogramResponse(from, to, unit, result);
+    }
+
+    // from ~ to(포함) 날짜별 가입자 수
+    private Map<LocalDate, Long> loadDailySignups(LocalDate from, LocalDate to) {
+        Map<LocalDate, Long> dailySignups = new TreeMap<>();
+        for (Object[] row : userRepository.countSignupsByDate(from.atStartOfDay(), to.plusDays(1).atStartOfDay())) {
+            LocalDate date = row[0] instanceof java.sql.Date sqlDate ? sqlDate.toLocalDate() : (LocalDate) row[0];
+            dailySignups.put(date, ((Number) row[1]).longValue());
+        }
+        return dailySignups;
+    }
+
 
     // --- Entity to DTO 변환 헬퍼 메소드 ---
 
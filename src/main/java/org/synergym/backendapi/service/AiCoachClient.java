@@ -1,25 +1,56 @@
 package org.synergym.backendapi.service;
 
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.synergym.backendapi.dto.ChatResponseDTO;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
 import java.util.Map;
 
+@Slf4j
 @Service
+@RequiredArgsConstructor
 public class AiCoachClient {
-    private final WebClient webClient = WebClient.create("http://localhost:8000");
+    // AI 서버 장애/거절 시 돌려주는 대체 응답 (대화 기록에는 저장하지 않음)
+    public static final String DEGRADED_TYPE = "degraded";
+    public static final String DEGRADED_REPLY = "지금은 AI 코치가 응답하기 어려운 상태예요. 잠시 후 다시 시도해 주세요.";
+
+    private static final String STREAM_DONE = "[DONE]";
+
+    private final WebClient webClient;
+    private final FastApiResilience fastApiResilience;
+
+    @Value("${fastapi.timeout.ai-coach:60s}")
+    private Duration timeout;
+
+    // 스트리밍은 토큰 사이 최대 대기 시간
+    @Value("${fastapi.timeout.ai-coach-stream:30s}")
+    private Duration streamTimeout;
+
+    // FastAPI 스트리밍 엔드포인트 (text/event-stream, data 한 줄이 토큰 하나, 끝은 [DONE])
+    @Value("${ai-coach.stream-path:/ai-coach/stream}")
+    private String streamPath;
 
     public ChatResponseDTO sendAiCoachRequest(Map<String, Object> requestBody) {
         try {
             System.out.println("[DEBUG] === FastAPI /ai-coach 요청 시작 ===");
             System.out.println("[DEBUG] 요청 바디: " + requestBody);
             
-            ChatResponseDTO response = webClient.post()
-                    .uri("/ai-coach")
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(ChatResponseDTO.class)
+            ChatResponseDTO response = fastApiResilience.protect(FastApiResilience.AI_COACH,
+                    webClient.post()
+                            .uri("/ai-coach")
+                            .bodyValue(requestBody)
+                            .retrieve()
+                            .bodyToMono(ChatResponseDTO.class)
+                            .timeout(timeout))
                     .block();
             
             System.out.println("[DEBUG] FastAPI 응답 성공: " + response);
@@ -30,10 +61,41 @@ public class AiCoachClient {
             System.out.println("[ERROR] HTTP 상태: " + e.getStatusCode());
             System.out.println("[ERROR] 에러 응답 본문: " + e.getResponseBodyAsString());
             System.out.println("[ERROR] 요청 바디: " + requestBody);
+            if (e.getStatusCode().is5xxServerError()) {
+                return degradedReply();
+            }
             throw e;
         } catch (Exception e) {
-            System.out.println("[ERROR] 기타 에러: " + e.getMessage());
-            throw e;
+            // 서킷 열림/동시 호출 초과/타임아웃/연결 실패는 대체 응답으로 즉시 반환
+            log.warn("FastAPI /ai-coach 호출 실패 - 대체 응답 반환", e);
+            return degradedReply();
         }
     }
-} 
\ No newline at end of file
+
+    public static ChatResponseDTO degradedReply() {
+        ChatResponseDTO response = new ChatResponseDTO();
+        response.setType(DEGRADED_TYPE);
+        response.setResponse(DEGRADED_REPLY);
+        return response;
+    }
+
+    /**
+     * AI 코치 응답 스트리밍
+     * FastAPI가 보내는 토큰을 도착하는 대로 전달 (블로킹 없음, 구독 취소 시 FastAPI 요청도 취소)
+     * 동시 호출 제한은 스트림이 끝날 때까지 유지
+     */
+    public Flux<String> streamAiCoachRequest(Map<String, Object> requestBody) {
+        Flux<String> tokens = webClient.post()
+                .uri(streamPath)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                .timeout(streamTimeout)
+                .takeWhile(event -> !STREAM_DONE.equals(event.data()) && !"done".equals(event.event()))
+                .mapNotNull(ServerSentEvent::data);
+        return fastApiResilience.protect(FastApiResilience.AI_COACH, tokens)
+                .doOnError(WebClientResponseException.class, e ->
+                        log.warn("FastAPI 스트리밍 에러 - HTTP 상태: {}", e.getStatusCode()));
+    }
+}
@@ -1,6 +1,7 @@
 package org.synergym.backendapi.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.synergym.backendapi.dto.AnalysisHistoryDTO;
@@ -20,6 +21,7 @@ public class AnalysisHistoryServiceImpl implements AnalysisHistoryService {
 
     private final AnalysisHistoryRepository analysisHistoryRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자 ID로 User 엔티티 조회
@@ -92,6 +94,7 @@ public class AnalysisHistoryServiceImpl implements AnalysisHistoryService {
         history.updateShoulderScore(requestDTO.getShoulderScore());
         history.updateFrontImageUrl(requestDTO.getFrontImageUrl());
         history.updateSideImageUrl(requestDTO.getSideImageUrl());
+        publishRollupChanged(history);
 
         return entityToDTO(history);
     }
@@ -107,5 +110,13 @@ public class AnalysisHistoryServiceImpl implements AnalysisHistoryService {
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.HISTORY_NOT_FOUND));
 
         history.softDelete();  // 실제 삭제 대신 상태만 변경
+        publishRollupChanged(history);
+    }
+
+    // 대시보드 일별 집계에서 해당 분석 날짜 다시 계산
+    private void publishRollupChanged(AnalysisHistory history) {
+        if (history.getCreatedAt() != null) {
+            eventPublisher.publishEvent(DashboardRollupChangedEvent.ofDate(history.getCreatedAt().toLocalDate()));
+        }
     }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import java.time.LocalDate;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -42,6 +43,7 @@ public class AuthServiceImpl implements AuthService {
     private final StringRedisTemplate redisTemplate;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final String VERIFICATION_CODE_PREFIX = "verification:";
 
@@ -88,6 +90,8 @@ public class AuthServiceImpl implements AuthService {
                 }
                 
                 userRepository.save(user);
+                // 성별/생년이 바뀌었을 수 있으므로 대시보드 일별 집계에서 이전 분석 날짜 다시 계산
+                eventPublisher.publishEvent(DashboardRollupChangedEvent.ofUser(user.getId()));
                 log.info("재가입 완료: {}", signupRequest.getEmail());
                 return;
             }
@@ -292,6 +296,8 @@ public class AuthServiceImpl implements AuthService {
                 user.updatePassword(passwordEncoder.encode("SocialLoginDummyPassword" + UUID.randomUUID()));
                 
                 userRepository.save(user);
+                // 생년이 바뀌었을 수 있으므로 대시보드 일별 집계에서 이전 분석 날짜 다시 계산
+                eventPublisher.publishEvent(DashboardRollupChangedEvent.ofUser(user.getId()));
                 log.info("소셜 재가입 완료: {}", signupRequest.getEmail());
             }
         } else {
@@ -1,49 +1,92 @@
 package org.synergym.backendapi.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 import org.synergym.backendapi.dto.ChatMessageDTO;
+import org.synergym.backendapi.dto.ChatSessionDTO;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 챗봇 대화 기록 Redis 저장소
+ * - 세션별 Redis List(chat:history:{userId}:{sessionId})에 메시지를 하나씩 JSON으로 추가
+ * - 추가 시 RPUSH + LTRIM(최근 50개) + EXPIRE(24시간)를 파이프라인으로 한 번에 전송
+ * - 이전 형식(chat:session:{userId}:{sessionId}에 전체 목록 JSON 문자열)은 시작 시 SCAN으로 일괄 변환하고,
+ *   조회 시 남아 있으면 그때 변환
+ * - 사용자별 세션 인덱스(chat:sessions:{userId}, 마지막 활동 시각 점수의 Sorted Set)와
+ *   세션 메타데이터(chat:meta:{userId}:{sessionId} 해시: 제목/마지막 메시지 시각/메시지 수)를 함께 갱신하여
+ *   세션 목록을 KEYS나 대화 내역 조회 없이 사용자 세션 수에 비례한 비용으로 조회
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatbotRedisService {
+
+    private static final String HISTORY_KEY_PREFIX = "chat:history:";
+    private static final String LEGACY_SESSION_KEY_PREFIX = "chat:session:";
+    private static final String SESSION_INDEX_KEY_PREFIX = "chat:sessions:";
+    private static final String SESSION_META_KEY_PREFIX = "chat:meta:";
+    private static final String META_TITLE = "title";
+    private static final String META_LAST_MESSAGE_AT = "lastMessageAt";
+    private static final String META_MESSAGE_COUNT = "messageCount";
+    private static final int TITLE_MAX_LENGTH = 30;
+    private static final int MAX_MESSAGES = 50;
+    private static final Duration SESSION_TTL = Duration.ofHours(24);
+
+    // 대화 내역이 비어 있을 때만 초기 메시지 추가
+    private static final DefaultRedisScript<Long> PUSH_IF_EMPTY_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('LLEN', KEYS[1]) > 0 then return 0 end " +
+            "redis.call('RPUSH', KEYS[1], ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    // 이전 형식(JSON 배열 문자열)을 List로 변환
+    // 변환 전에 새 형식으로 쌓인 메시지가 있으면 그 앞에 넣고, 남은 TTL 유지
+    private static final DefaultRedisScript<Long> MIGRATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('TYPE', KEYS[1]).ok ~= 'string' then return 0 end " +
+            "local ttl = redis.call('PTTL', KEYS[1]) " +
+            "local messages = cjson.decode(redis.call('GET', KEYS[1])) " +
+            "for i = #messages, 1, -1 do redis.call('LPUSH', KEYS[2], cjson.encode(messages[i])) end " +
+            "redis.call('LTRIM', KEYS[2], -tonumber(ARGV[1]), -1) " +
+            "if ttl > 0 then redis.call('PEXPIRE', KEYS[2], ttl) end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return #messages",
+            Long.class);
+
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
 
     // 대화 메시지 저장 (24시간 TTL)
     public void saveChatMessage(Integer userId, String sessionId, String userMessage, String aiResponse) {
         try {
-            String key = "chat:session:" + userId + ":" + sessionId;
-            
-            // 기존 대화 조회
-            List<ChatMessageDTO> messages = getChatHistory(userId, sessionId);
-            
-            // 새 메시지 추가
-            messages.add(new ChatMessageDTO("user", userMessage));
-            messages.add(new ChatMessageDTO("bot", aiResponse));
-            
-            // 최대 50개 메시지로 제한
-            if (messages.size() > 50) {
-                messages = messages.subList(messages.size() - 50, messages.size());
-            }
-            
-            // Redis에 저장 (24시간 TTL)
-            String jsonData = objectMapper.writeValueAsString(messages);
-            redisTemplate.opsForValue().set(key, jsonData, Duration.ofHours(24));
-            
-            log.info("챗봇 메시지 저장 완료 - userId: {}, sessionId: {}, 메시지 수: {}", 
-                    userId, sessionId, messages.size());
-                    
+            appendMessages(userId, sessionId, userMessage,
+                    new ChatMessageDTO("user", userMessage),
+                    new ChatMessageDTO("bot", aiResponse));
+            log.info("챗봇 메시지 저장 완료 - userId: {}, sessionId: {}", userId, sessionId);
         } catch (Exception e) {
             log.error("챗봇 메시지 저장 실패 - userId: {}, sessionId: {}", userId, sessionId, e);
         }
@@ -52,51 +95,41 @@ public class ChatbotRedisService {
     // 초기 메시지 저장 (영상 추천 또는 상담)
     public void saveInitialMessage(Integer userId, String sessionId, String initialMessage, String messageType) {
         try {
-            String key = "chat:session:" + userId + ":" + sessionId;
-            
-            // 기존 대화 조회
-            List<ChatMessageDTO> messages = getChatHistory(userId, sessionId);
-            
-            // 대화 내역이 없을 때만 초기 메시지 추가
-            if (messages.isEmpty()) {
-                // 초기 메시지만 추가 (사용자 메시지 없이)
-                messages.add(new ChatMessageDTO("bot", initialMessage));
-                
-                // 최대 50개 메시지로 제한
-                if (messages.size() > 50) {
-                    messages = messages.subList(messages.size() - 50, messages.size());
-                }
-                
-                // Redis에 저장 (24시간 TTL)
-                String jsonData = objectMapper.writeValueAsString(messages);
-                redisTemplate.opsForValue().set(key, jsonData, Duration.ofHours(24));
-                
-                log.info("초기 메시지 저장 완료 - userId: {}, sessionId: {}, messageType: {}", 
+            String key = historyKey(userId, sessionId);
+            migrateLegacy(userId, sessionId);
+
+            // 대화 내역이 없을 때만 초기 메시지 추가 (사용자 메시지 없이)
+            Long added = redisTemplate.execute(PUSH_IF_EMPTY_SCRIPT, List.of(key),
+                    objectMapper.writeValueAsString(new ChatMessageDTO("bot", initialMessage)),
+                    String.valueOf(SESSION_TTL.toSeconds()));
+
+            if (added != null && added > 0) {
+                touchSession(userId, sessionId, initialMessage, 1);
+                log.info("초기 메시지 저장 완료 - userId: {}, sessionId: {}, messageType: {}",
                         userId, sessionId, messageType);
             } else {
-                log.info("대화 내역이 이미 존재하여 초기 메시지 저장 건너뜀 - userId: {}, sessionId: {}", 
+                log.info("대화 내역이 이미 존재하여 초기 메시지 저장 건너뜀 - userId: {}, sessionId: {}",
                         userId, sessionId);
             }
-                    
         } catch (Exception e) {
             log.error("초기 메시지 저장 실패 - userId: {}, sessionId: {}", userId, sessionId, e);
         }
     }
 
-    // 대화 기록 조회
+    // 대화 기록 조회 (최근 50개 전체)
     public List<ChatMessageDTO> getChatHistory(Integer userId, String sessionId) {
-        try {
-            String key = "chat:session:" + userId + ":" + sessionId;
-            String data = redisTemplate.opsForValue().get(key);
-            
-            if (data != null) {
-                return objectMapper.readValue(data, new TypeReference<List<ChatMessageDTO>>() {});
-            }
-        } catch (Exception e) {
-            log.error("챗봇 기록 조회 실패 - userId: {}, sessionId: {}", userId, sessionId, e);
-        }
-        
-        return new ArrayList<>();
+        return readRange(userId, sessionId, 0, -1);
+    }
+
+    /**
+     * 대화 기록 페이지 조회
+     * page 0이 가장 최근 size개, 페이지 안에서는 오래된 메시지부터 정렬
+     */
+    public List<ChatMessageDTO> getChatHistory(Integer userId, String sessionId, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_MESSAGES);
+        long end = -1L - (long) Math.max(page, 0) * pageSize;
+        long start = end - pageSize + 1;
+        return readRange(userId, sessionId, start, end);
     }
 
     // 새로운 세션 ID 생성
@@ -107,7 +140,7 @@ public class ChatbotRedisService {
     // 사용자별 활성 세션 저장
     public void setActiveSession(Integer userId, String sessionId) {
         String key = "chat:active:" + userId;
-        redisTemplate.opsForValue().set(key, sessionId, Duration.ofHours(24));
+        redisTemplate.opsForValue().set(key, sessionId, SESSION_TTL);
     }
 
     // 사용자별 활성 세션 조회
@@ -118,40 +151,277 @@ public class ChatbotRedisService {
 
     // 세션 삭제
     public void deleteSession(Integer userId, String sessionId) {
-        String key = "chat:session:" + userId + ":" + sessionId;
-        redisTemplate.delete(key);
+        redisTemplate.delete(List.of(historyKey(userId, sessionId), legacyKey(userId, sessionId), metaKey(userId, sessionId)));
+        redisTemplate.opsForZSet().remove(sessionIndexKey(userId), sessionId);
     }
 
-    // 사용자별 모든 세션 조회
+    // 사용자별 모든 세션 ID 조회 (최근 활동순)
     public List<String> getUserSessions(Integer userId) {
-        String pattern = "chat:session:" + userId + ":*";
-        return redisTemplate.keys(pattern).stream()
-                .map(key -> key.split(":")[3])
-                .toList();
+        pruneExpiredSessions(userId);
+        Set<String> sessionIds = redisTemplate.opsForZSet().reverseRange(sessionIndexKey(userId), 0, -1);
+        return sessionIds != null ? List.copyOf(sessionIds) : List.of();
+    }
+
+    /**
+     * 사용자별 세션 목록 조회 (최근 활동순)
+     * 세션 인덱스와 메타데이터 해시만 읽고 대화 내역은 읽지 않음 (메타데이터 조회는 파이프라인 1회)
+     */
+    public List<ChatSessionDTO> getUserSessionSummaries(Integer userId) {
+        try {
+            List<String> sessionIds = getUserSessions(userId);
+            if (sessionIds.isEmpty()) {
+                return List.of();
+            }
+
+            List<Object> metas = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    sessionIds.forEach(sessionId -> operations.opsForHash().entries(metaKey(userId, sessionId)));
+                    return null;
+                }
+            });
+
+            String activeSessionId = getActiveSession(userId);
+            List<ChatSessionDTO> sessions = new ArrayList<>();
+            for (int i = 0; i < sessionIds.size(); i++) {
+                Map<?, ?> meta = metas.get(i) instanceof Map<?, ?> map ? map : Map.of();
+                Object lastMessageAt = meta.get(META_LAST_MESSAGE_AT);
+                Object messageCount = meta.get(META_MESSAGE_COUNT);
+                sessions.add(ChatSessionDTO.builder()
+                        .sessionId(sessionIds.get(i))
+                        .title(meta.get(META_TITLE) != null ? meta.get(META_TITLE).toString() : null)
+                        .lastMessageAt(lastMessageAt != null ? toLocalDateTime(Long.parseLong(lastMessageAt.toString())) : null)
+                        .messageCount(messageCount != null ? Long.parseLong(messageCount.toString()) : 0L)
+                        .active(sessionIds.get(i).equals(activeSessionId))
+                        .build());
+            }
+            return sessions;
+        } catch (Exception e) {
+            log.error("챗봇 세션 목록 조회 실패 - userId: {}", userId, e);
+            return List.of();
+        }
+    }
+
+    // TTL이 지나 대화 내역이 만료된 세션을 인덱스에서 제거 (제거한 세션 수 반환)
+    public long pruneExpiredSessions(Integer userId) {
+        long cutoff = System.currentTimeMillis() - SESSION_TTL.toMillis();
+        Long removed = redisTemplate.opsForZSet().removeRangeByScore(sessionIndexKey(userId), Double.NEGATIVE_INFINITY, cutoff);
+        return removed != null ? removed : 0L;
     }
     
     // 대화 내역에 무조건 메시지 추가
     public void forceAddMessage(Integer userId, String sessionId, String content, String messageType, String videoUrl) {
         try {
-            String key = "chat:session:" + userId + ":" + sessionId;
-            List<ChatMessageDTO> messages = getChatHistory(userId, sessionId);
+            ChatMessageDTO message = "video".equals(messageType) && videoUrl != null
+                    ? new ChatMessageDTO("bot", content, videoUrl)
+                    : new ChatMessageDTO("bot", content);
+            appendMessages(userId, sessionId, content, message);
+            log.info("강제 메시지 추가 완료 - userId: {}, sessionId: {}, messageType: {}, videoUrl: {}", userId, sessionId, messageType, videoUrl);
+        } catch (Exception e) {
+            log.error("강제 메시지 추가 실패 - userId: {}, sessionId: {}", userId, sessionId, e);
+        }
+    }
 
-            if ("video".equals(messageType) && videoUrl != null) {
-                messages.add(new ChatMessageDTO("bot", content, videoUrl));
-            } else {
-                messages.add(new ChatMessageDTO("bot", content));
+    // 이전 형식 세션 키 일괄 변환 (KEYS 대신 SCAN으로 순회)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacySessions() {
+        int migrated = 0;
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(LEGACY_SESSION_KEY_PREFIX + "*")
+                .type(DataType.STRING)
+                .count(500)
+                .build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String legacyKey = cursor.next();
+                String[] parts = legacyKey.split(":", 4);
+                Integer userId = Integer.valueOf(parts[2]);
+                String sessionId = parts[3];
+                migrateLegacy(userId, sessionId);
+                migrated++;
             }
+            if (migrated > 0) {
+                log.info("이전 형식 챗봇 세션 변환 완료 - 세션 수: {}", migrated);
+            }
+        } catch (Exception e) {
+            log.error("이전 형식 챗봇 세션 변환 실패 - 변환된 세션 수: {}", migrated, e);
+        }
+    }
 
-            // 최대 50개 제한
-            if (messages.size() > 50) {
-                messages = messages.subList(messages.size() - 50, messages.size());
+    // 세션 인덱스 도입 전에 만들어진 세션을 인덱스에 등록 (SCAN으로 순회, 이미 등록된 세션은 건너뜀)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSessionIndex() {
+        int indexed = 0;
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(HISTORY_KEY_PREFIX + "*")
+                .type(DataType.LIST)
+                .count(500)
+                .build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String[] parts = cursor.next().split(":", 4);
+                Integer userId = Integer.valueOf(parts[2]);
+                String sessionId = parts[3];
+                if (redisTemplate.opsForZSet().score(sessionIndexKey(userId), sessionId) == null) {
+                    indexExistingSession(userId, sessionId);
+                    indexed++;
+                }
             }
+            if (indexed > 0) {
+                log.info("챗봇 세션 인덱스 등록 완료 - 세션 수: {}", indexed);
+            }
+        } catch (Exception e) {
+            log.error("챗봇 세션 인덱스 등록 실패 - 등록된 세션 수: {}", indexed, e);
+        }
+    }
 
-            String jsonData = objectMapper.writeValueAsString(messages);
-            redisTemplate.opsForValue().set(key, jsonData, Duration.ofHours(24));
-            log.info("강제 메시지 추가 완료 - userId: {}, sessionId: {}, messageType: {}, videoUrl: {}", userId, sessionId, messageType, videoUrl);
+    // 인덱스에 없는 기존 세션을 대화 내역으로부터 인덱싱 (변환/백필 시 1회)
+    private void indexExistingSession(Integer userId, String sessionId) {
+        String key = historyKey(userId, sessionId);
+        List<String> values = redisTemplate.opsForList().range(key, 0, -1);
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+
+        String title = null;
+        for (String value : values) {
+            try {
+                ChatMessageDTO message = objectMapper.readValue(value, ChatMessageDTO.class);
+                if (title == null || "user".equals(message.getType())) {
+                    title = message.getContent();
+                }
+                if ("user".equals(message.getType())) {
+                    break;
+                }
+            } catch (JsonProcessingException e) {
+                log.warn("챗봇 메시지 파싱 실패 - userId: {}, sessionId: {}", userId, sessionId);
+            }
+        }
+
+        // 남은 TTL로 마지막 활동 시각 추정
+        Long ttlMillis = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+        long now = System.currentTimeMillis();
+        long lastActivity = ttlMillis != null && ttlMillis > 0 ? now - (SESSION_TTL.toMillis() - ttlMillis) : now;
+
+        String metaKey = metaKey(userId, sessionId);
+        Map<String, String> meta = new HashMap<>();
+        meta.put(META_LAST_MESSAGE_AT, String.valueOf(lastActivity));
+        meta.put(META_MESSAGE_COUNT, String.valueOf(values.size()));
+        if (title != null) {
+            meta.put(META_TITLE, toTitle(title));
+        }
+        redisTemplate.opsForHash().putAll(metaKey, meta);
+        redisTemplate.expire(metaKey, SESSION_TTL);
+        redisTemplate.opsForZSet().add(sessionIndexKey(userId), sessionId, lastActivity);
+        redisTemplate.expire(sessionIndexKey(userId), SESSION_TTL);
+    }
+
+    // RPUSH + LTRIM + EXPIRE + 세션 인덱스 갱신을 파이프라인으로 전송 (기존 내역을 읽지 않음)
+    private void appendMessages(Integer userId, String sessionId, String titleCandidate,
+                                ChatMessageDTO... messages) throws JsonProcessingException {
+        String key = historyKey(userId, sessionId);
+        // 이전 형식 내역이 남아 있으면 먼저 변환 (새 메시지가 먼저 쌓이면 조회 시 변환되지 않아 이전 내역이 누락됨)
+        migrateLegacy(userId, sessionId);
+        String[] values = new String[messages.length];
+        for (int i = 0; i < messages.length; i++) {
+            values[i] = objectMapper.writeValueAsString(messages[i]);
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForList().rightPushAll(key, (Object[]) values);
+                operations.opsForList().trim(key, -MAX_MESSAGES, -1);
+                operations.expire(key, SESSION_TTL);
+                updateSessionIndex(operations, userId, sessionId, titleCandidate, messages.length);
+                return null;
+            }
+        });
+    }
+
+    // 세션 인덱스/메타데이터 갱신 (파이프라인 1회)
+    private void touchSession(Integer userId, String sessionId, String titleCandidate, int messageCount) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                updateSessionIndex(operations, userId, sessionId, titleCandidate, messageCount);
+                return null;
+            }
+        });
+    }
+
+    // 마지막 활동 시각으로 인덱스 점수 갱신, 메시지 수 증가, 제목은 처음 한 번만 저장
+    @SuppressWarnings("unchecked")
+    private void updateSessionIndex(RedisOperations operations, Integer userId, String sessionId,
+                                    String titleCandidate, int messageCount) {
+        long now = System.currentTimeMillis();
+        String indexKey = sessionIndexKey(userId);
+        String metaKey = metaKey(userId, sessionId);
+        operations.opsForZSet().add(indexKey, sessionId, now);
+        operations.expire(indexKey, SESSION_TTL);
+        operations.opsForHash().increment(metaKey, META_MESSAGE_COUNT, messageCount);
+        operations.opsForHash().put(metaKey, META_LAST_MESSAGE_AT, String.valueOf(now));
+        if (titleCandidate != null && !titleCandidate.isBlank()) {
+            operations.opsForHash().putIfAbsent(metaKey, META_TITLE, toTitle(titleCandidate));
+        }
+        operations.expire(metaKey, SESSION_TTL);
+    }
+
+    private String toTitle(String text) {
+        String title = text.strip().replaceAll("\\s+", " ");
+        return title.length() > TITLE_MAX_LENGTH ? title.substring(0, TITLE_MAX_LENGTH) + "…" : title;
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private List<ChatMessageDTO> readRange(Integer userId, String sessionId, long start, long end) {
+        List<ChatMessageDTO> messages = new ArrayList<>();
+        try {
+            String key = historyKey(userId, sessionId);
+            List<String> values = redisTemplate.opsForList().range(key, start, end);
+            if ((values == null || values.isEmpty()) && migrateLegacy(userId, sessionId)) {
+                values = redisTemplate.opsForList().range(key, start, end);
+            }
+            if (values != null) {
+                for (String value : values) {
+                    messages.add(objectMapper.readValue(value, ChatMessageDTO.class));
+                }
+            }
         } catch (Exception e) {
-            log.error("강제 메시지 추가 실패 - userId: {}, sessionId: {}", userId, sessionId, e);
+            log.error("챗봇 기록 조회 실패 - userId: {}, sessionId: {}", userId, sessionId, e);
         }
+        return messages;
+    }
+
+    // 이전 형식 키가 남아 있으면 변환 후 세션 인덱스에 등록 (변환했으면 true)
+    private boolean migrateLegacy(Integer userId, String sessionId) {
+        Long migrated = redisTemplate.execute(MIGRATE_SCRIPT,
+                List.of(legacyKey(userId, sessionId), historyKey(userId, sessionId)),
+                String.valueOf(MAX_MESSAGES));
+        if (migrated == null || migrated <= 0) {
+            return false;
+        }
+        indexExistingSession(userId, sessionId);
+        return true;
+    }
+
+    private String historyKey(Integer userId, String sessionId) {
+        return HISTORY_KEY_PREFIX + userId + ":" + sessionId;
+    }
+
+    private String sessionIndexKey(Integer userId) {
+        return SESSION_INDEX_KEY_PREFIX + userId;
+    }
+
+    private String metaKey(Integer userId, String sessionId) {
+        return SESSION_META_KEY_PREFIX + userId + ":" + sessionId;
+    }
+
+    private String legacyKey(Integer userId, String sessionId) {
+        return LEGACY_SESSION_KEY_PREFIX + userId + ":" + sessionId;
     }
 }
@@ -5,7 +5,6 @@ import org.springframework.data.domain.Pageable;
 import org.synergym.backendapi.dto.CommentDTO;
 import org.synergym.backendapi.entity.Comment;
 
-import java.util.List;
 
 public interface CommentService {
 
@@ -36,8 +35,8 @@ public interface CommentService {
     // 사용자별 댓글 수 조회
     long getCommentCountByUserId(Integer userId);
 
-    // 내용으로 댓글 검색
-    List<CommentDTO> searchComments(String keyword);
+    // 내용으로 댓글 검색 (관련도순, 페이징)
+    Page<CommentDTO> searchComments(String keyword, Pageable pageable);
 
     // DTO -> Entity 변환
     default Comment DTOtoEntity(CommentDTO dto) {
@@ -2,6 +2,7 @@ package org.synergym.backendapi.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,7 +16,9 @@ import org.synergym.backendapi.repository.CommentRepository;
 import org.synergym.backendapi.repository.PostRepository;
 import org.synergym.backendapi.repository.UserRepository;
 
-import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 //게시글 댓글의 생성, 수정, 삭제, 조회 등 비즈니스 로직 처리
@@ -28,6 +31,7 @@ public class CommentServiceImpl implements CommentService {
     private final PostRepository postRepository;
     private final PostCounterService postCounterService;
     private final NotificationService notificationService;
+    private final SearchIndexer searchIndexer;
 
     // ID로 댓글 조회 (없으면 예외 발생)
     private Comment findCommentById(int id) {
@@ -61,6 +65,7 @@ public class CommentServiceImpl implements CommentService {
                 .build();
         
         Comment savedComment = commentRepository.save(comment);
+        searchIndexer.indexComment(savedComment.getId(), savedComment.getContent());
 
          // 댓글 작성 알림 생성
         notificationService.createCommentNotification(commentDTO.getPostId(), commentDTO.getUserId());
@@ -87,6 +92,7 @@ public class CommentServiceImpl implements CommentService {
         }
         
         commentRepository.save(comment);
+        searchIndexer.indexComment(comment.getId(), comment.getContent());
     }
 
     //댓글 삭제- 댓글 삭제, PostCounter의 댓글 수 감소
@@ -153,13 +159,21 @@ public class CommentServiceImpl implements CommentService {
         return commentRepository.countByUserId(userId);
     }
 
-    //댓글 내용 키워드 검색
+    //댓글 내용 키워드 검색 (전문 검색 색인, 관련도순)
     @Override
     @Transactional(readOnly = true)
-    public List<CommentDTO> searchComments(String keyword) {
-        return commentRepository.findByContentContaining(keyword)
+    public Page<CommentDTO> searchComments(String keyword, Pageable pageable) {
+        Page<Integer> ids = searchIndexer.searchCommentIds(keyword, pageable);
+        if (ids.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        Map<Integer, Comment> comments = commentRepository.findAllWithUserAndPostByIdIn(ids.getContent())
                 .stream()
+                .collect(Collectors.toMap(Comment::getId, Function.identity()));
+        return new PageImpl<>(ids.getContent().stream()
+                .map(comments::get)
+                .filter(Objects::nonNull)
                 .map(this::entityToDTO)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()), pageable, ids.getTotalElements());
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,81 @@
+package org.synergym.backendapi.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 관리자 대시보드 구역별 조회 실행기
+ * - 서로 독립적인 조회를 dashboardQueryExecutor 풀에서 동시에 실행 (응답 시간 ≈ 가장 느린 조회 하나)
+ * - 조회마다 timeout-ms를 넘기거나 실패하면 해당 구역만 기본값(빈 값)으로 응답
+ *   (타임아웃 시 응답만 먼저 보내며, 실행 중인 DB 조회는 풀 안에서 끝까지 실행됨)
+ * - parallel=false면 호출 스레드에서 순서대로 실행 (실패 격리는 동일)
+ * - 구역별 소요 시간: admin.dashboard.query{section}, 실패: admin.dashboard.query.failed{section,reason}
+ */
+@Slf4j
+@Component
+public class DashboardQueryRunner {
+
+    private final Executor dashboardQueryExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${dashboard-query.parallel:true}")
+    private boolean parallel;
+
+    @Value("${dashboard-query.timeout-ms:5000}")
+    private long timeoutMs;
+
+    public DashboardQueryRunner(@Qualifier("dashboardQueryExecutor") Executor dashboardQueryExecutor,
+                                MeterRegistry meterRegistry) {
+        this.dashboardQueryExecutor = dashboardQueryExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 구역 조회 시작
+     * @return 조회 결과 (실패/타임아웃 시 fallback으로 완료, 예외로 완료되지 않음)
+     */
+    public <T> CompletableFuture<T> submit(String section, Supplier<T> query, T fallback) {
+        if (!parallel) {
+            try {
+                return CompletableFuture.completedFuture(timed(section, query));
+            } catch (Exception e) {
+                return CompletableFuture.completedFuture(fail(section, e, fallback));
+            }
+        }
+        return CompletableFuture.supplyAsync(() -> timed(section, query), dashboardQueryExecutor)
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> fail(section, e, fallback));
+    }
+
+    private <T> T timed(String section, Supplier<T> query) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return query.get();
+        } finally {
+            sample.stop(meterRegistry.timer("admin.dashboard.query", "section", section));
+        }
+    }
+
+    private <T> T fail(String section, Throwable e, T fallback) {
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
+        boolean timeout = cause instanceof TimeoutException;
+        meterRegistry.counter("admin.dashboard.query.failed", "section", section,
+                "reason", timeout ? "timeout" : "error").increment();
+        if (timeout) {
+            log.warn("Dashboard query timed out after {} ms, returning empty section - section: {}", timeoutMs, section);
+        } else {
+            log.error("Dashboard query failed, returning empty section - section: {}", section, cause);
+        }
+        return fallback;
+    }
+}
@@ -0,0 +1,19 @@
+package org.synergym.backendapi.service;
+
+import java.time.LocalDate;
+
+/**
+ * 대시보드 집계 대상 데이터 변경 이벤트
+ * - date: 해당 날짜의 분석 집계를 다시 계산 (분석 기록 수정/삭제)
+ * - userId: 사용자의 분석 기록이 있는 모든 날짜를 다시 계산 (성별/생년 변경)
+ */
+public record DashboardRollupChangedEvent(LocalDate date, Integer userId) {
+
+    public static DashboardRollupChangedEvent ofDate(LocalDate date) {
+        return new DashboardRollupChangedEvent(date, null);
+    }
+
+    public static DashboardRollupChangedEvent ofUser(int userId) {
+        return new DashboardRollupChangedEvent(null, userId);
+    }
+}
@@ -0,0 +1,222 @@
+package org.synergym.backendapi.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.synergym.backendapi.repository.DashboardRollupRepository;
+import org.synergym.backendapi.repository.DashboardRollupRepository.ActivityTotals;
+import org.synergym.backendapi.repository.DashboardRollupRepository.AnalysisTotalRow;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 관리자 대시보드 일별 집계
+ * - 최근 recent-days일치 집계를 refresh-interval-ms 주기로 다시 계산 (신규 가입/분석/게시글, 활성 사용자 이동 반영)
+ * - 그 이전 날짜는 변경 이벤트로 표시된 날짜(Redis set)만 다시 계산
+ * - 매일 rebuild-cron에 전체 재구성하여 누락분 보정, 집계 테이블이 비어 있으면 기동 시 재구성
+ * - 대시보드는 원본 테이블 대신 집계 행 몇 개만 읽음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardRollupService {
+
+    private static final String DIRTY_DATES_KEY = "admin:rollup:dirty-dates";
+    private static final String REFRESH_MARKER_KEY = "admin:rollup:refreshing";
+
+    private static final List<String> AGE_GROUPS = List.of("10대", "20대", "30대", "40대", "50대 이상");
+
+    private final DashboardRollupRepository dashboardRollupRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${dashboard-rollup.enabled:true}")
+    private boolean enabled;
+
+    // 주간 활성 사용자(이번 주/지난 주) 계산에 필요한 14일 이상으로 설정
+    @Value("${dashboard-rollup.recent-days:14}")
+    private int recentDays;
+
+    @Value("${dashboard-rollup.refresh-interval-ms:60000}")
+    private long refreshIntervalMs;
+
+    // 성별/나이대별 누적 분석 횟수와 평균 점수
+    public record ScoreSummary(long count, double averageScore) {}
+
+    // 대시보드 상단 통계 원본 값
+    public record Totals(long totalMembers, long totalPosts, long totalAnalysis,
+                         long currentWeekActiveUsers, long previousWeekActiveUsers) {
+
+        public static final Totals EMPTY = new Totals(0, 0, 0, 0, 0);
+    }
+
+    // 성별/나이대별 분석 통계 (나이대 순)
+    public record ScoreBreakdown(Map<String, ScoreSummary> byGender, Map<String, ScoreSummary> byAgeGroup) {
+
+        public static final ScoreBreakdown EMPTY = new ScoreBreakdown(Map.of(), Map.of());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 집계 테이블에서 대시보드 상단 통계 조회
+     * 활성 사용자는 날짜 단위 (이번 주 = 오늘 포함 최근 7일, 지난 주 = 그 전 7일)
+     */
+    public Totals getTotals() {
+        LocalDate today = LocalDate.now();
+        ActivityTotals activity = dashboardRollupRepository.findActivityTotals();
+        long currentWeek = dashboardRollupRepository.sumActiveUsers(today.minusDays(6), today);
+        long previousWeek = dashboardRollupRepository.sumActiveUsers(today.minusDays(13), today.minusDays(7));
+        return new Totals(activity.signups(), activity.posts(), dashboardRollupRepository.sumAnalysisCount(),
+                currentWeek, previousWeek);
+    }
+
+    // 집계 테이블에서 성별/나이대별 분석 횟수와 평균 점수 조회
+    public ScoreBreakdown getScoreBreakdown() {
+        int currentYear = LocalDate.now().getYear();
+        Map<String, long[]> genderTotals = new TreeMap<>();
+        Map<String, long[]> ageTotals = new TreeMap<>();
+        for (AnalysisTotalRow row : dashboardRollupRepository.findAnalysisTotals()) {
+            if (!row.gender().isEmpty()) {
+                accumulate(genderTotals, row.gender(), row);
+            }
+            if (row.birthYear() != 0) {
+                accumulate(ageTotals, ageGroup(currentYear - row.birthYear()), row);
+            }
+        }
+        return new ScoreBreakdown(toSummaries(genderTotals), toSummaries(ageTotals));
+    }
+
+    // 나이(조회 연도 - 생년) → 나이대 라벨 (기존 대시보드 쿼리와 같은 기준)
+    public static String ageGroup(int age) {
+        if (age < 20) return AGE_GROUPS.get(0);
+        if (age < 30) return AGE_GROUPS.get(1);
+        if (age < 40) return AGE_GROUPS.get(2);
+        if (age < 50) return AGE_GROUPS.get(3);
+        return AGE_GROUPS.get(4);
+    }
+
+    // 최근 구간 + 변경 표시된 날짜 다시 계산 (여러 서버 중 주기마다 한 곳에서만 실행)
+    @Scheduled(fixedDelayString = "${dashboard-rollup.refresh-interval-ms:60000}",
+               initialDelayString = "${dashboard-rollup.initial-delay-ms:30000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Boolean claimed = redisTemplate.opsForValue().setIfAbsent(REFRESH_MARKER_KEY, "1",
+                    Duration.ofMillis(Math.max(refreshIntervalMs - 1000, 1000)));
+            if (!Boolean.TRUE.equals(claimed)) {
+                return;
+            }
+            LocalDate today = LocalDate.now();
+            LocalDate from = today.minusDays(recentDays - 1L);
+            dashboardRollupRepository.refreshAnalysis(from, today);
+            dashboardRollupRepository.refreshActivity(from, today);
+
+            List<String> dirtyDates;
+            do {
+                dirtyDates = redisTemplate.opsForSet().pop(DIRTY_DATES_KEY, 100);
+                if (dirtyDates == null) {
+                    return;
+                }
+                refreshDirtyDates(dirtyDates, from);
+            } while (!dirtyDates.isEmpty());
+        } catch (Exception e) {
+            log.error("Error refreshing dashboard rollups", e);
+        }
+    }
+
+    // 꺼낸 날짜 재계산 - 실패하면 아직 반영하지 못한 날짜를 다시 표시해 다음 주기에 재시도
+    private void refreshDirtyDates(List<String> dirtyDates, LocalDate from) {
+        for (int i = 0; i < dirtyDates.size(); i++) {
+            try {
+                LocalDate dirty = LocalDate.parse(dirtyDates.get(i));
+                if (dirty.isBefore(from)) {
+                    dashboardRollupRepository.refreshAnalysis(dirty, dirty);
+                }
+            } catch (RuntimeException e) {
+                List<String> remaining = dirtyDates.subList(i, dirtyDates.size());
+                redisTemplate.opsForSet().add(DIRTY_DATES_KEY, remaining.toArray(String[]::new));
+                throw e;
+            }
+        }
+    }
+
+    // 전체 재구성 (매일 새벽)
+    @Scheduled(cron = "${dashboard-rollup.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            dashboardRollupRepository.rebuildAll();
+            log.info("Dashboard rollups rebuilt in {} ms", System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("Error rebuilding dashboard rollups", e);
+        }
+    }
+
+    // 집계 테이블이 비어 있으면(최초 배포) 기동 시 전체 재구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (dashboardRollupRepository.isEmpty()) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.error("Error checking dashboard rollups", e);
+        }
+    }
+
+    // 커밋된 변경만 표시 (롤백된 변경으로 불필요한 재계산 방지)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onChanged(DashboardRollupChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<LocalDate> dates = event.userId() != null
+                    ? dashboardRollupRepository.findAnalysisDatesByUser(event.userId())
+                    : List.of(event.date());
+            if (!dates.isEmpty()) {
+                redisTemplate.opsForSet().add(DIRTY_DATES_KEY, dates.stream().map(LocalDate::toString).toArray(String[]::new));
+            }
+        } catch (Exception e) {
+            // 표시에 실패해도 매일 전체 재구성에서 보정
+            log.warn("Failed to mark dashboard rollup dates dirty - event: {}", event, e);
+        }
+    }
+
+    private void accumulate(Map<String, long[]> totals, String key, AnalysisTotalRow row) {
+        long[] total = totals.computeIfAbsent(key, k -> new long[2]);
+        total[0] += row.analysisCount();
+        total[1] += row.scoreSum();
+    }
+
+    private Map<String, ScoreSummary> toSummaries(Map<String, long[]> totals) {
+        Map<String, ScoreSummary> summaries = new TreeMap<>();
+        totals.forEach((key, total) -> {
+            if (total[0] > 0) {
+                summaries.put(key, new ScoreSummary(total[0], (double) total[1] / (total[0] * 5.0)));
+            }
+        });
+        return summaries;
+    }
+}
@@ -0,0 +1,52 @@
+package org.synergym.backendapi.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.synergym.backendapi.entity.EmotionType;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 운동 기록 메모 감정 분류 작업
+ * - 운동 기록 트랜잭션이 커밋된 뒤 메모를 감정 분류 배치 큐에 넣음
+ *   (운동 기록 저장은 FastAPI 호출을 기다리지 않고 바로 커밋)
+ * - 분류 결과 반영만 emotionClassificationExecutor에서 짧은 트랜잭션으로 처리
+ */
+@Slf4j
+@Component
+public class EmotionClassificationWorker {
+
+    private final EmotionClassifierClient emotionClassifierClient;
+    private final EmotionLogService emotionLogService;
+    private final Executor emotionClassificationExecutor;
+
+    public EmotionClassificationWorker(EmotionClassifierClient emotionClassifierClient,
+                                       EmotionLogService emotionLogService,
+                                       @Qualifier("emotionClassificationExecutor") Executor emotionClassificationExecutor) {
+        this.emotionClassifierClient = emotionClassifierClient;
+        this.emotionLogService = emotionLogService;
+        this.emotionClassificationExecutor = emotionClassificationExecutor;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMemoChanged(ExerciseLogMemoChangedEvent event) {
+        emotionClassifierClient.classifyAsync(event.memo())
+                .thenAcceptAsync(label -> apply(event, label), emotionClassificationExecutor);
+    }
+
+    private void apply(ExerciseLogMemoChangedEvent event, String label) {
+        try {
+            EmotionType emotion = EmotionClassifierClient.toEmotionType(label);
+            if (emotion == null) {
+                log.debug("Emotion unclassified, keeping previous emotion - exerciseLogId: {}", event.exerciseLogId());
+                return;
+            }
+            emotionLogService.applyClassifiedEmotion(event.exerciseLogId(), event.memo(), emotion);
+        } catch (Exception e) {
+            log.error("Error applying classified emotion - exerciseLogId: {}", event.exerciseLogId(), e);
+        }
+    }
+}
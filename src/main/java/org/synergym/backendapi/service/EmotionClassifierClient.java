@@ -0,0 +1,259 @@
+package org.synergym.backendapi.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.synergym.backendapi.dto.EmotionAnalysisRequest;
+import org.synergym.backendapi.dto.EmotionBatchRequest;
+import org.synergym.backendapi.dto.EmotionBatchResponseDTO;
+import org.synergym.backendapi.dto.EmotionResponseDTO;
+import org.synergym.backendapi.entity.EmotionType;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FastAPI 감정 분류 클라이언트
+ * - 메모를 바로 보내지 않고 큐에 모아 최대 max-size개 또는 max-wait-ms마다 /emotion/batch로 한 번에 전송
+ *   (같은 배치 안의 같은 메모는 정규화 후 한 번만 전송)
+ * - 결과는 메모별 CompletableFuture로 돌려줌
+ * - 보내기 전에 메모 내용 해시로 결과 캐시(로컬 → Redis)를 확인하여 이미 분류한 메모는 전송하지 않음
+ * - AI 서버 장애/지연/거절, 큐 초과 시 예외 대신 "unclassified"를 반환하여 운동 기록 저장이 막히지 않도록 함
+ * - 전송 중인 배치가 가득 차면 메모는 큐에서 대기 (배치 전송 흐름이 예외로 끝나면 대기 중인 메모를 unclassified로 완료하고 다시 구독)
+ * - batch.enabled=false면 메모마다 /emotion을 호출
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmotionClassifierClient {
+
+    public static final String UNCLASSIFIED = "unclassified";
+
+    private final WebClient webClient;
+    private final FastApiResilience fastApiResilience;
+    private final EmotionResultCache emotionResultCache;
+
+    @Value("${fastapi.timeout.emotion:10s}")
+    private Duration timeout;
+
+    @Value("${emotion-classification.batch.enabled:true}")
+    private boolean batchEnabled;
+
+    @Value("${emotion-classification.batch.path:/emotion/batch}")
+    private String batchPath;
+
+    @Value("${emotion-classification.batch.max-size:32}")
+    private int batchMaxSize;
+
+    @Value("${emotion-classification.batch.max-wait-ms:20}")
+    private long batchMaxWaitMs;
+
+    // 동시에 전송 중일 수 있는 배치 수
+    @Value("${emotion-classification.batch.max-in-flight:4}")
+    private int batchMaxInFlight;
+
+    @Value("${emotion-classification.batch.queue-capacity:4096}")
+    private int batchQueueCapacity;
+
+    // 아직 결과가 정해지지 않은 메모의 future (배치 전송 흐름이 끊겼을 때 일괄 완료용)
+    private final Set<CompletableFuture<String>> outstanding = ConcurrentHashMap.newKeySet();
+
+    private Sinks.Many<PendingMemo> pendingMemos;
+    private Disposable dispatcher;
+    private boolean stopped;
+
+    private record PendingMemo(String memo, String hash, CompletableFuture<String> result) {
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!batchEnabled) {
+            return;
+        }
+        startDispatcher();
+    }
+
+    // 큐 → 배치 전송 흐름 구독
+    // bufferTimeout은 fair backpressure 모드로 사용 (전송 중인 배치가 max-in-flight개면 대기 시간이 지나도 배치를 만들지 않고 큐에 둠)
+    private synchronized void startDispatcher() {
+        Sinks.Many<PendingMemo> sink = Sinks.many().unicast().onBackpressureBuffer(Queues.<PendingMemo>get(batchQueueCapacity).get());
+        pendingMemos = sink;
+        dispatcher = sink.asFlux()
+                .bufferTimeout(batchMaxSize, Duration.ofMillis(batchMaxWaitMs), true)
+                .flatMap(this::sendBatch, batchMaxInFlight)
+                .subscribe(null, this::onDispatcherError);
+    }
+
+    // 배치 전송 흐름이 예외로 끝나면 새 큐로 다시 구독하고, 이전 큐에 남은 메모는 unclassified로 완료
+    private void onDispatcherError(Throwable e) {
+        log.error("감정 분류 배치 전송 중단 - 대기 중인 메모 unclassified 처리 후 재시작", e);
+        List<CompletableFuture<String>> abandoned;
+        synchronized (this) {
+            abandoned = new ArrayList<>(outstanding);
+            if (!stopped) {
+                startDispatcher();
+            }
+        }
+        abandoned.forEach(future -> future.complete(UNCLASSIFIED));
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        stopped = true;
+        if (pendingMemos != null) {
+            pendingMemos.tryEmitComplete();
+        }
+        if (dispatcher != null) {
+            dispatcher.dispose();
+        }
+    }
+
+    // 메모의 감정 라벨 분류 (분류할 수 없으면 UNCLASSIFIED)
+    public String classify(String memo) {
+        try {
+            return classifyAsync(memo).get(timeout.toMillis() + batchMaxWaitMs + 1000, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("감정 분류 대기 실패 - unclassified 처리: {}", e.getMessage());
+            return UNCLASSIFIED;
+        }
+    }
+
+    // 메모의 감정 라벨 분류 요청 (결과 future는 항상 정상 완료되며 분류할 수 없으면 UNCLASSIFIED)
+    public CompletableFuture<String> classifyAsync(String memo) {
+        if (memo == null || memo.isBlank()) {
+            return CompletableFuture.completedFuture(UNCLASSIFIED);
+        }
+        String hash = EmotionResultCache.hash(memo);
+        String cached = emotionResultCache.getLocal(hash);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        if (!batchEnabled) {
+            return classifySingle(memo, hash).toFuture();
+        }
+
+        CompletableFuture<String> result = new CompletableFuture<>();
+        outstanding.add(result);
+        result.whenComplete((label, e) -> outstanding.remove(result));
+        Sinks.EmitResult emitResult;
+        // 여러 스레드에서 동시에 넣으면 FAIL_NON_SERIALIZED가 날 수 있으므로 직렬화
+        synchronized (this) {
+            emitResult = pendingMemos.tryEmitNext(new PendingMemo(memo, hash, result));
+        }
+        if (emitResult.isFailure()) {
+            log.warn("감정 분류 대기 큐 초과 - unclassified 처리: {}", emitResult);
+            result.complete(UNCLASSIFIED);
+        }
+        return result;
+    }
+
+    // 모은 메모 중 Redis 캐시에 없는 것만 한 번에 전송하고 결과를 각 future에 전달
+    private Mono<Void> sendBatch(List<PendingMemo> batch) {
+        Map<String, String> memoByHash = new LinkedHashMap<>();
+        Map<String, List<CompletableFuture<String>>> waiters = new HashMap<>();
+        batch.forEach(pending -> {
+            memoByHash.putIfAbsent(pending.hash(), pending.memo());
+            waiters.computeIfAbsent(pending.hash(), hash -> new ArrayList<>()).add(pending.result());
+        });
+
+        // Redis 조회/저장은 블로킹이므로 boundedElastic에서 실행
+        return Mono.fromCallable(() -> emotionResultCache.getRemote(new ArrayList<>(memoByHash.keySet())))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(cached -> {
+                    cached.forEach((hash, label) -> complete(waiters, hash, label));
+                    List<String> hashes = memoByHash.keySet().stream().filter(hash -> !cached.containsKey(hash)).toList();
+                    if (hashes.isEmpty()) {
+                        return Mono.empty();
+                    }
+                    List<String> memos = hashes.stream().map(memoByHash::get).toList();
+                    return fastApiResilience.protect(FastApiResilience.EMOTION,
+                                    webClient.post()
+                                            .uri(batchPath)
+                                            .contentType(MediaType.APPLICATION_JSON)
+                                            .bodyValue(new EmotionBatchRequest(memos))
+                                            .retrieve()
+                                            .bodyToMono(EmotionBatchResponseDTO.class)
+                                            .timeout(timeout))
+                            .publishOn(Schedulers.boundedElastic())
+                            .doOnNext(response -> {
+                                List<EmotionResponseDTO> results = response.getResults() != null ? response.getResults() : List.of();
+                                Map<String, String> classified = new HashMap<>();
+                                for (int i = 0; i < hashes.size() && i < results.size(); i++) {
+                                    if (results.get(i) != null && results.get(i).getLabel() != null) {
+                                        classified.put(hashes.get(i), results.get(i).getLabel());
+                                    }
+                                }
+                                classified.forEach((hash, label) -> complete(waiters, hash, label));
+                                emotionResultCache.putAll(classified);
+                            })
+                            .doOnError(e -> logFailure(e, memos.size()));
+                })
+                .onErrorResume(e -> Mono.empty())
+                // 응답에 없거나 실패한 메모의 future는 unclassified로 완료
+                .doFinally(signal -> waiters.keySet().forEach(hash -> complete(waiters, hash, UNCLASSIFIED)))
+                .then();
+    }
+
+    private void complete(Map<String, List<CompletableFuture<String>>> waiters, String hash, String label) {
+        waiters.getOrDefault(hash, List.of()).forEach(future -> future.complete(label));
+    }
+
+    private Mono<String> classifySingle(String memo, String hash) {
+        return Mono.fromCallable(() -> emotionResultCache.getRemote(List.of(hash)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(cached -> cached.containsKey(hash)
+                        ? Mono.just(cached.get(hash))
+                        : fastApiResilience.protect(FastApiResilience.EMOTION,
+                                        webClient.post()
+                                                .uri("/emotion")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .bodyValue(new EmotionAnalysisRequest(memo))
+                                                .retrieve()
+                                                .bodyToMono(EmotionResponseDTO.class)
+                                                .timeout(timeout))
+                                .publishOn(Schedulers.boundedElastic())
+                                .mapNotNull(EmotionResponseDTO::getLabel)
+                                .doOnNext(label -> emotionResultCache.putAll(Map.of(hash, label))))
+                .doOnError(e -> logFailure(e, 1))
+                .onErrorReturn(UNCLASSIFIED)
+                .defaultIfEmpty(UNCLASSIFIED);
+    }
+
+    private void logFailure(Throwable e, int memoCount) {
+        if (FastApiResilience.isRejected(e)) {
+            log.warn("감정 분류 호출 거절 (서킷 열림 또는 동시 호출 초과) - unclassified 처리, 메모 수: {}", memoCount);
+        } else {
+            log.warn("감정 분류 실패 - unclassified 처리, 메모 수: {}: {}", memoCount, e.getMessage());
+        }
+    }
+
+    // 라벨을 EmotionType으로 변환 (unclassified나 알 수 없는 라벨이면 null)
+    public static EmotionType toEmotionType(String label) {
+        if (label == null || UNCLASSIFIED.equals(label)) {
+            return null;
+        }
+        try {
+            return EmotionType.valueOf(label);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -5,12 +5,16 @@ import java.util.List;
 import org.synergym.backendapi.dto.EmotionLogDTO;
 import org.synergym.backendapi.dto.EmotionStatsDTO;
 import org.synergym.backendapi.entity.EmotionLog;
+import org.synergym.backendapi.entity.EmotionType;
 
 public interface EmotionLogService {
 
     // 감성 기록 저장 또는 업데이트
     EmotionLogDTO saveOrUpdateEmotionLog(EmotionLogDTO emotionLogDTO);
 
+    // 비동기로 분류된 감정 반영 (운동 기록 메모가 그 사이 바뀌었으면 건너뜀)
+    EmotionLogDTO applyClassifiedEmotion(Integer exerciseLogId, String memo, EmotionType emotion);
+
     // 사용자별 감성 기록 조회
     List<EmotionLogDTO> getEmotionLogsByUser(Integer userId);
     
@@ -9,12 +9,10 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.synergym.backendapi.dto.EmotionAnalysisRequest;
 import org.synergym.backendapi.dto.EmotionLogDTO;
-import org.synergym.backendapi.dto.EmotionResponseDTO;
 import org.synergym.backendapi.dto.EmotionStatsDTO;
 import org.synergym.backendapi.entity.EmotionLog;
 import org.synergym.backendapi.entity.EmotionType;
@@ -34,7 +32,7 @@ public class EmotionLogServiceImpl implements EmotionLogService {
     private final EmotionLogRepository emotionLogRepository;
     private final ExerciseLogRepository exerciseLogRepository;
     private final UserRepository userRepository;
-    private final WebClient fastApiWebClient;
+    private final ApplicationEventPublisher eventPublisher;
 
     private User findUserById(int id) {
         return userRepository.findById(id)
@@ -59,20 +57,60 @@ public class EmotionLogServiceImpl implements EmotionLogService {
         }
         // --- 끝: 메모가 비어있을 때의 처리
 
-        // --- 시작: FastAPI 호출
-        EmotionResponseDTO emotionResponse = fastApiWebClient.post()
-                .uri("/emotion")
-                .bodyValue(new EmotionAnalysisRequest(dto.getMemo()))
-                .retrieve()
-                .bodyToMono(EmotionResponseDTO.class)
-                .block();
+        // 메모만 먼저 저장하고, 감정 분류는 커밋 후 EmotionClassificationWorker가 비동기로 처리
+        // (FastAPI 응답을 기다리는 동안 DB 커넥션을 잡지 않음, 그 전까지는 기존 감정 유지)
+        ExerciseLog exerciseLog = saveMemo(user, dto);
+        eventPublisher.publishEvent(new ExerciseLogMemoChangedEvent(exerciseLog.getId(), dto.getMemo()));
 
-        if (emotionResponse == null || emotionResponse.getLabel() == null) {
-            throw new IllegalStateException("메모로부터 감정을 분류할 수 없습니다.");
+        return emotionLogRepository.findByExerciseLog(exerciseLog).map(this::entityToDTO).orElse(null);
+    }
+
+    @Override
+    @Transactional
+    public EmotionLogDTO applyClassifiedEmotion(Integer exerciseLogId, String memo, EmotionType emotion) {
+        ExerciseLog source = exerciseLogRepository.findById(exerciseLogId).orElse(null);
+
+        // 삭제되었거나 분류하는 동안 메모가 바뀐 경우 건너뜀 (새 메모의 분류 결과가 반영됨)
+        if (source == null || !memo.equals(source.getMemo())) {
+            return null;
+        }
+
+        EmotionLogDTO dto = EmotionLogDTO.builder()
+                .userId(source.getUser().getId())
+                .exerciseDate(source.getExerciseDate())
+                .emotion(emotion)
+                .memo(memo)
+                .build();
+        return saveClassifiedEmotion(source.getUser(), dto, emotion);
+    }
+
+    // 날짜별 '메인' 운동 로그에 메모와 분류된 감정 저장 (분류하지 못했으면 메모만 저장)
+    private EmotionLogDTO saveClassifiedEmotion(User user, EmotionLogDTO dto, EmotionType classifiedEmotion) {
+        ExerciseLog exerciseLog = saveMemo(user, dto);
+        Optional<EmotionLog> emotionLogOptional = emotionLogRepository.findByExerciseLog(exerciseLog);
+
+        // 분류하지 못한 경우 메모만 저장하고 기존 감정은 유지
+        if (classifiedEmotion == null) {
+            return emotionLogOptional.map(this::entityToDTO).orElse(null);
+        }
+
+        EmotionLog emotionLog;
+        if (emotionLogOptional.isPresent()) {
+            emotionLog = emotionLogOptional.get();
+        } else {
+            emotionLog = EmotionLog.builder()
+                    .exerciseLog(exerciseLog)
+                    .build();
         }
-        // --- 끝: FastAPI 호출 ---
 
+        emotionLog.updateEmotion(classifiedEmotion);
+        EmotionLog savedEmotionLog = emotionLogRepository.save(emotionLog);
+
+        return entityToDTO(savedEmotionLog);
+    }
 
+    // 날짜별 '메인' 운동 로그(감정 기록이 있는 로그, 없으면 첫 로그)에 메모 저장 (로그가 없으면 생성)
+    private ExerciseLog saveMemo(User user, EmotionLogDTO dto) {
         // --- 시작: '메인' 운동 로그 찾기
         List<ExerciseLog> logsForDay = exerciseLogRepository.findByUserAndExerciseDate(user, dto.getExerciseDate());
 
@@ -102,23 +140,7 @@ public class EmotionLogServiceImpl implements EmotionLogService {
         }
         // --- 끝: 운동 로그 생성 또는 업데이트 ---
 
-        EmotionType classifiedEmotion = EmotionType.valueOf(emotionResponse.getLabel());
-
-        Optional<EmotionLog> emotionLogOptional = emotionLogRepository.findByExerciseLog(exerciseLog);
-
-        EmotionLog emotionLog;
-        if (emotionLogOptional.isPresent()) {
-            emotionLog = emotionLogOptional.get();
-        } else {
-            emotionLog = EmotionLog.builder()
-                    .exerciseLog(exerciseLog)
-                    .build();
-        }
-
-        emotionLog.updateEmotion(classifiedEmotion);
-        EmotionLog savedEmotionLog = emotionLogRepository.save(emotionLog);
-
-        return entityToDTO(savedEmotionLog);
+        return exerciseLog;
     }
 
     @Override
@@ -0,0 +1,139 @@
+package org.synergym.backendapi.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 감정 분류 결과 캐시 (메모 내용 해시 기준)
+ * - 정규화한 메모(NFKC, 앞뒤 공백 제거, 연속 공백 하나로)의 SHA-256을 키로 로컬(Caffeine) → Redis 순으로 조회
+ * - 같은 메모를 다시 저장해도 AI 서버를 호출하지 않음
+ * - unclassified 결과는 저장하지 않음 (AI 서버 복구 후 다시 분류)
+ * - 모델이 바뀌면 model-version을 올려 이전 결과를 무시
+ * - 적중률: cache.gets{cache=emotion.result.local}, emotion.result.cache.redis{result=hit|miss}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmotionResultCache {
+
+    private static final String RESULT_KEY_PREFIX = "emotion:result:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${emotion-classification.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${emotion-classification.cache.model-version:v1}")
+    private String modelVersion;
+
+    @Value("${emotion-classification.cache.local-max-size:10000}")
+    private long localMaxSize;
+
+    @Value("${emotion-classification.cache.redis-ttl-days:30}")
+    private long redisTtlDays;
+
+    private Cache<String, String> localCache;
+    private Counter redisHits;
+    private Counter redisMisses;
+
+    @PostConstruct
+    void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "emotion.result.local");
+        redisHits = meterRegistry.counter("emotion.result.cache.redis", "result", "hit");
+        redisMisses = meterRegistry.counter("emotion.result.cache.redis", "result", "miss");
+    }
+
+    // 메모 내용 해시 (정규화 후 SHA-256)
+    public static String hash(String memo) {
+        String normalized = Normalizer.normalize(memo, Normalizer.Form.NFKC).strip().replaceAll("\\s+", " ");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 로컬 캐시만 조회 (없으면 null)
+    public String getLocal(String hash) {
+        return enabled ? localCache.getIfPresent(hash) : null;
+    }
+
+    /**
+     * Redis에서 여러 해시를 한 번에 조회 (MGET 1회), 찾은 결과는 로컬 캐시에도 저장
+     * @return 해시 → 라벨 (Redis 오류 시 빈 맵)
+     */
+    public Map<String, String> getRemote(List<String> hashes) {
+        Map<String, String> found = new HashMap<>();
+        if (!enabled || hashes.isEmpty()) {
+            return found;
+        }
+        try {
+            List<String> labels = redisTemplate.opsForValue().multiGet(hashes.stream().map(this::resultKey).toList());
+            for (int i = 0; i < hashes.size(); i++) {
+                String label = labels != null ? labels.get(i) : null;
+                if (label != null) {
+                    found.put(hashes.get(i), label);
+                    localCache.put(hashes.get(i), label);
+                }
+            }
+            redisHits.increment(found.size());
+            redisMisses.increment(hashes.size() - found.size());
+        } catch (Exception e) {
+            log.warn("Redis emotion result read failed - hashes: {}", hashes.size(), e);
+        }
+        return found;
+    }
+
+    // 분류 결과 저장 (로컬 + Redis 파이프라인 1회)
+    public void putAll(Map<String, String> labels) {
+        if (!enabled || labels.isEmpty()) {
+            return;
+        }
+        localCache.putAll(labels);
+        try {
+            Duration ttl = Duration.ofDays(redisTtlDays);
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    labels.forEach((hash, label) -> operations.opsForValue().set(resultKey(hash), label, ttl));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Redis emotion result write failed - results: {}", labels.size(), e);
+        }
+    }
+
+    private String resultKey(String hash) {
+        return RESULT_KEY_PREFIX + modelVersion + ":" + hash;
+    }
+}
@@ -0,0 +1,238 @@
+package org.synergym.backendapi.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.synergym.backendapi.repository.ExerciseLogRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 최근 N일 운동 횟수 분포 (사용자 간 비교 통계용)
+ * - 주기마다 한 서버만(Redis 마커) 전체 사용자 운동 횟수를 집계하여 Redis에 저장
+ *   · 분포: 운동 횟수별 사용자 수 히스토그램 ("횟수:사용자수,..." 오름차순)
+ *   · 사용자별 운동 횟수: Hash (userId → 횟수)
+ * - 각 서버는 히스토그램을 정렬된 배열 + 누적 사용자 수로 메모리에 보관하여
+ *   "나보다 적게 운동한 사용자 수"를 이진 탐색으로 계산 (요청 시 DB 조회 없음)
+ * - Redis에 분포가 없으면(최초 기동, Redis 장애) DB에서 직접 집계한 결과를 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExerciseActivityDistribution {
+
+    private static final String DISTRIBUTION_KEY = "stats:activity:distribution";
+    private static final String USER_COUNTS_KEY = "stats:activity:user-counts";
+    private static final String REFRESH_MARKER_KEY = "stats:activity:refreshing";
+    private static final String FIELD_HISTOGRAM = "histogram";
+    private static final String FIELD_COMPUTED_AT = "computedAt";
+
+    private final ExerciseLogRepository exerciseLogRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${stats.activity-distribution.window-days:30}")
+    private int windowDays;
+
+    @Value("${stats.activity-distribution.refresh-interval-ms:600000}")
+    private long refreshIntervalMs;
+
+    // 이 서버가 보관 중인 분포 (Redis 분포가 바뀌면 교체)
+    private volatile Snapshot snapshot;
+
+    /**
+     * 운동 횟수 분포 스냅샷
+     * values: 운동 횟수(오름차순, 중복 없음), usersBelow[i]: values[i]보다 적게 운동한 사용자 수
+     * userCounts: Redis를 사용할 수 없을 때만 보관하는 사용자별 운동 횟수 (그 외에는 null)
+     */
+    record Snapshot(long computedAt, long[] values, long[] usersBelow, long totalUsers,
+                    Map<Integer, Long> userCounts) {
+
+        // 운동 횟수가 count보다 적은 사용자 수 (이진 탐색)
+        long countBelow(long count) {
+            int index = Arrays.binarySearch(values, count);
+            return usersBelow[index >= 0 ? index : -index - 1];
+        }
+
+        // 운동 횟수가 count인 사용자의 백분위 (모수가 없으면 0)
+        double percentile(long count) {
+            if (totalUsers == 0) {
+                return 0.0;
+            }
+            return (double) countBelow(count) / totalUsers * 100;
+        }
+    }
+
+    /**
+     * 사용자의 최근 N일 운동 횟수 백분위 (나보다 적게 운동한 사용자 비율, 0~100)
+     * 기간 내 운동 기록이 있는 사용자만 모수에 포함
+     */
+    public double percentileOf(Integer userId) {
+        Snapshot current = currentSnapshot();
+        if (current.totalUsers() == 0) {
+            return 0.0;
+        }
+        return current.percentile(userCount(current, userId));
+    }
+
+    // 주기적으로 분포 갱신 (한 서버만 DB 집계, 나머지는 Redis에서 읽기)
+    @Scheduled(fixedDelayString = "${stats.activity-distribution.refresh-interval-ms:600000}",
+               initialDelayString = "${stats.activity-distribution.initial-delay-ms:20000}")
+    public void refresh() {
+        try {
+            Boolean claimed = redisTemplate.opsForValue().setIfAbsent(REFRESH_MARKER_KEY, "1",
+                    Duration.ofMillis(Math.max(refreshIntervalMs - 1000, 1000)));
+            if (Boolean.TRUE.equals(claimed)) {
+                publish(aggregate());
+            }
+            Snapshot loaded = loadFromRedis();
+            if (loaded != null) {
+                snapshot = loaded;
+            }
+        } catch (Exception e) {
+            log.error("Error refreshing exercise activity distribution", e);
+            // Redis를 사용할 수 없는 동안에는 이 서버에서 직접 집계한 분포로 교체
+            Snapshot current = snapshot;
+            if (current == null || current.userCounts() != null) {
+                refreshLocally();
+            }
+        }
+    }
+
+    private void refreshLocally() {
+        try {
+            Map<Integer, Long> counts = aggregate();
+            snapshot = toSnapshot(System.currentTimeMillis(), histogramOf(counts), counts);
+        } catch (Exception e) {
+            log.error("Error aggregating exercise activity distribution from DB", e);
+        }
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                Snapshot loaded = null;
+                try {
+                    loaded = loadFromRedis();
+                } catch (Exception e) {
+                    log.warn("Redis activity distribution read failed, aggregating from DB", e);
+                }
+                if (loaded != null) {
+                    snapshot = loaded;
+                } else {
+                    refreshLocally();
+                }
+            }
+            return snapshot != null ? snapshot : toSnapshot(0L, new TreeMap<>(), Map.of());
+        }
+    }
+
+    private long userCount(Snapshot current, Integer userId) {
+        if (current.userCounts() != null) {
+            return current.userCounts().getOrDefault(userId, 0L);
+        }
+        try {
+            Object value = redisTemplate.opsForHash().get(USER_COUNTS_KEY, String.valueOf(userId));
+            return value != null ? Long.parseLong(value.toString()) : 0L;
+        } catch (Exception e) {
+            // Redis 장애 시 사용자 한 명 운동 횟수만 DB에서 조회
+            log.warn("Redis user activity count read failed - userId: {}", userId, e);
+            LocalDate endDate = LocalDate.now();
+            return exerciseLogRepository.countByUserIdAndExerciseDateBetween(userId, endDate.minusDays(windowDays), endDate);
+        }
+    }
+
+    // 최근 N일 사용자별 운동 횟수 집계
+    private Map<Integer, Long> aggregate() {
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusDays(windowDays);
+        Map<Integer, Long> counts = new HashMap<>();
+        for (Map<String, Object> row : exerciseLogRepository.countLogsGroupByUser(startDate, endDate)) {
+            counts.put(((Number) row.get("userId")).intValue(), ((Number) row.get("count")).longValue());
+        }
+        return counts;
+    }
+
+    // 사용자별 횟수/히스토그램을 임시 키에 만든 뒤 RENAME으로 교체
+    private void publish(Map<Integer, Long> counts) {
+        String tmpCountsKey = USER_COUNTS_KEY + ":rebuild";
+        redisTemplate.delete(tmpCountsKey);
+        if (counts.isEmpty()) {
+            redisTemplate.delete(USER_COUNTS_KEY);
+        } else {
+            Map<String, String> values = counts.entrySet().stream()
+                    .collect(Collectors.toMap(entry -> String.valueOf(entry.getKey()), entry -> String.valueOf(entry.getValue())));
+            redisTemplate.opsForHash().putAll(tmpCountsKey, values);
+            redisTemplate.rename(tmpCountsKey, USER_COUNTS_KEY);
+        }
+
+        redisTemplate.opsForHash().putAll(DISTRIBUTION_KEY, Map.of(
+                FIELD_HISTOGRAM, encode(histogramOf(counts)),
+                FIELD_COMPUTED_AT, String.valueOf(System.currentTimeMillis())));
+        log.debug("Published exercise activity distribution - users: {}", counts.size());
+    }
+
+    // Redis 분포 읽기 (없으면 null, 이미 보관 중인 것과 같으면 기존 스냅샷 반환)
+    private Snapshot loadFromRedis() {
+        List<Object> fields = redisTemplate.opsForHash().multiGet(DISTRIBUTION_KEY, List.of(FIELD_HISTOGRAM, FIELD_COMPUTED_AT));
+        if (fields.get(0) == null || fields.get(1) == null) {
+            return null;
+        }
+        long computedAt = Long.parseLong(fields.get(1).toString());
+        Snapshot current = snapshot;
+        if (current != null && current.computedAt() == computedAt && current.userCounts() == null) {
+            return current;
+        }
+        return toSnapshot(computedAt, decode(fields.get(0).toString()), null);
+    }
+
+    // 운동 횟수별 사용자 수 (오름차순)
+    static TreeMap<Long, Long> histogramOf(Map<Integer, Long> counts) {
+        TreeMap<Long, Long> histogram = new TreeMap<>();
+        counts.values().forEach(count -> histogram.merge(count, 1L, Long::sum));
+        return histogram;
+    }
+
+    static Snapshot toSnapshot(long computedAt, TreeMap<Long, Long> histogram, Map<Integer, Long> userCounts) {
+        long[] values = new long[histogram.size()];
+        long[] usersBelow = new long[histogram.size() + 1];
+        int i = 0;
+        for (Map.Entry<Long, Long> entry : histogram.entrySet()) {
+            values[i] = entry.getKey();
+            usersBelow[i + 1] = usersBelow[i] + entry.getValue();
+            i++;
+        }
+        return new Snapshot(computedAt, values, usersBelow, usersBelow[values.length], userCounts);
+    }
+
+    static String encode(TreeMap<Long, Long> histogram) {
+        return histogram.entrySet().stream()
+                .map(entry -> entry.getKey() + ":" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+
+    static TreeMap<Long, Long> decode(String encoded) {
+        TreeMap<Long, Long> histogram = new TreeMap<>();
+        if (encoded.isEmpty()) {
+            return histogram;
+        }
+        for (String bucket : encoded.split(",")) {
+            int separator = bucket.indexOf(':');
+            histogram.put(Long.parseLong(bucket.substring(0, separator)), Long.parseLong(bucket.substring(separator + 1)));
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,8 @@
+package org.synergym.backendapi.service;
+
+/**
+ * 운동 기록 메모 저장 이벤트
+ * 트랜잭션 커밋 후 메모의 감정 분류(비동기)에 사용
+ */
+public record ExerciseLogMemoChangedEvent(Integer exerciseLogId, String memo) {
+}
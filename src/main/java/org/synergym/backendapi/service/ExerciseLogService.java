@@ -4,6 +4,8 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.synergym.backendapi.dto.ExerciseLogDTO;
 import org.synergym.backendapi.dto.WeeklyMonthlyStats;
 import org.synergym.backendapi.entity.ExerciseLog;
@@ -25,6 +27,9 @@ public interface ExerciseLogService {
     // 사용자별 + 날짜별 운동기록 조회
     List<ExerciseLogDTO> getExerciseLogsByUserAndDate(Integer userId, LocalDate date);
 
+    // 사용자별 기간 내 운동기록 조회 (페이징, 최신순)
+    Page<ExerciseLogDTO> getExerciseLogsByUserAndPeriod(Integer userId, LocalDate from, LocalDate to, Pageable pageable);
+
     void updateExerciseLog(Integer id, ExerciseLogDTO exerciseLogDTO);
 
     // 운동기록 삭제
@@ -4,17 +4,21 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.MediaType;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.synergym.backendapi.dto.*;
-import org.synergym.backendapi.entity.EmotionType;
 import org.synergym.backendapi.entity.ExerciseLog;
 import org.synergym.backendapi.entity.ExerciseLogRoutine;
 import org.synergym.backendapi.entity.Routine;
@@ -32,12 +36,14 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @Slf4j
 public class ExerciseLogServiceImpl implements ExerciseLogService {
+    // 루틴 일괄 조회 시 IN 절에 넣는 운동 기록 수
+    private static final int ROUTINE_FETCH_CHUNK_SIZE = 500;
+
     private final ExerciseLogRepository exerciseLogRepository;
     private final UserRepository userRepository;
     private final RoutineRepository routineRepository;
     private final ExerciseLogRoutineRepository exerciseLogRoutineRepository;
-    private final EmotionLogService emotionLogService;
-    private final WebClient fastApiWebClient;
+    private final ApplicationEventPublisher eventPublisher;
 
     //ID로 사용자 조회 (없으면 예외 발생)
     private User findUserById(int id) {
@@ -51,6 +57,13 @@ public class ExerciseLogServiceImpl implements ExerciseLogService {
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.EXERCISE_LOG_NOT_FOUND));
     }
 
+    //메모가 있으면 커밋 후 감정 분류 요청
+    private void publishMemoChanged(Integer exerciseLogId, String memo) {
+        if (memo != null && !memo.isBlank()) {
+            eventPublisher.publishEvent(new ExerciseLogMemoChangedEvent(exerciseLogId, memo));
+        }
+    }
+
     //운동 기록 생성 - 여러 루틴 연동 가능
     @Override
     @Transactional
@@ -78,26 +91,8 @@ public class ExerciseLogServiceImpl implements ExerciseLogService {
             }
         }
         
-        // call classification(FastAPI)
-        EmotionResponseDTO response = fastApiWebClient.post()
-            .uri("/emotion")
-            .bodyValue(Map.of("memo", dto.getMemo()))
-            .retrieve()
-            .bodyToMono(EmotionResponseDTO.class)
-            .block();
-
-        String emotion = response.getLabel();
-
-        EmotionType emotionType = EmotionType.valueOf(emotion); // 이미 Enum에 맞게 매핑되어 있으니 바로 변환
-
-        EmotionLogDTO emotionLogDTO = EmotionLogDTO.builder()
-            .userId(dto.getUserId())
-            .exerciseDate(dto.getExerciseDate())
-            .emotion(emotionType)
-            .memo(dto.getMemo())
-            .build();
-
-        emotionLogService.saveOrUpdateEmotionLog(emotionLogDTO);
+        // 감정 분류는 커밋 후 비동기로 처리 (FastAPI 호출 동안 DB 커넥션을 잡지 않음)
+        publishMemoChanged(log.getId(), dto.getMemo());
 
         return log.getId();
     }
@@ -113,39 +108,17 @@ public class ExerciseLogServiceImpl implements ExerciseLogService {
         }
 
         // 메모 업데이트
+        boolean memoChanged = !Objects.equals(log.getMemo(), dto.getMemo());
         log.updateMemo(dto.getMemo());
 
-        // 감정 분석
-        try {
-            
-            // FastAPI로 감정 분석 요청 보내기
-            EmotionResponseDTO response = fastApiWebClient.post()
-                .uri("/emotion")
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(new EmotionAnalysisRequest(dto.getMemo()))
-                .retrieve()
-                .bodyToMono(EmotionResponseDTO.class)
-                .block();
-
-            if (response != null && response.getLabel() != null) {
-                
-                EmotionLogDTO emotionLogDTO = EmotionLogDTO.builder()
-                    .userId(log.getUser().getId())
-                    .exerciseDate(log.getExerciseDate())
-                    .emotion(EmotionType.valueOf(response.getLabel()))
-                    .memo(dto.getMemo())
-                    .build();
-
-                // 기존 감정 로그가 있다면 ID 설정
-                if (log.getEmotionLog() != null) {
-                    emotionLogDTO.setId(log.getEmotionLog().getId());
-                }
-
-                emotionLogService.saveOrUpdateEmotionLog(emotionLogDTO);
+        // 감정 분석은 메모가 바뀐 경우에만 커밋 후 비동기로 처리 (같은 메모면 기존 감정 기록 유지)
+        // 메모를 지운 경우 분류 없이 감정 기록도 함께 삭제 (orphanRemoval)
+        if (memoChanged) {
+            if (dto.getMemo() == null || dto.getMemo().isBlank()) {
+                log.setEmotionLog(null);
             } else {
+                publishMemoChanged(log.getId(), dto.getMemo());
             }
-        } catch (Exception e) {
-
         }
 
         // 연관된 ExerciseLogRoutine의 checkYn 업데이트
@@ -165,12 +138,7 @@ public class ExerciseLogServiceImpl implements ExerciseLogService {
     @Override
     @Transactional(readOnly = true)
     public List<ExerciseLogDTO> getAllExerciseLogs() {
-        return exerciseLogRepository.findAll().stream()
-                .map(log -> {
-                    List<ExerciseLogRoutine> logRoutines = exerciseLogRoutineRepository.findByExerciseLog(log);
-                    return entityToDTO(log, logRoutines);
-                })
-                .collect(Collectors.toList());
+        return toDTOs(exerciseLogRepository.findAll());
     }
 
     //ID로 운동 기록 단건 조회
@@ -182,34 +150,47 @@ public class ExerciseLogServiceImpl implements ExerciseLogService {
         return entityToDTO(log, logRoutines);
     }
 
-    //사용자별 전체 운동 기록 목록 조회
+    //사용자별 전체 운동 기록 목록 조회 (최신순)
     @Override
     @Transactional(readOnly = true)
     public List<ExerciseLogDTO> getExerciseLogsByUser(Integer userId) {
-        List<ExerciseLog> logs = exerciseLogRepository.findAll().stream()
-                .filter(log -> log.getUser() != null && Integer.valueOf(log.getUser().getId()).equals(userId))
-                .collect(Collectors.toList());
-        List<ExerciseLogDTO> result = new ArrayList<>();
-        for (ExerciseLog log : logs) {
-            List<ExerciseLogRoutine> logRoutines = exerciseLogRoutineRepository.findByExerciseLog(log);
-            result.add(entityToDTO(log, logRoutines));
-        }
-        return result;
+        return toDTOs(exerciseLogRepository.findWithEmotionByUserId(userId));
     }
 
     //사용자별 특정 날짜의 운동 기록 목록 조회
     @Override
     @Transactional(readOnly = true)
     public List<ExerciseLogDTO> getExerciseLogsByUserAndDate(Integer userId, LocalDate date) {
-        List<ExerciseLog> logs = exerciseLogRepository.findByExerciseDate(date).stream()
-                .filter(log -> log.getUser() != null && Integer.valueOf(log.getUser().getId()).equals(userId))
-                .collect(Collectors.toList());
-        List<ExerciseLogDTO> result = new ArrayList<>();
-        for (ExerciseLog log : logs) {
-            List<ExerciseLogRoutine> logRoutines = exerciseLogRoutineRepository.findByExerciseLog(log);
-            result.add(entityToDTO(log, logRoutines));
+        return toDTOs(exerciseLogRepository.findWithEmotionByUserIdAndDate(userId, date));
+    }
+
+    //사용자별 기간 내 운동 기록 페이지 조회 (최신순)
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ExerciseLogDTO> getExerciseLogsByUserAndPeriod(Integer userId, LocalDate from, LocalDate to, Pageable pageable) {
+        if (from.isAfter(to)) {
+            throw new IllegalStateException("조회 시작일은 종료일보다 늦을 수 없습니다.");
         }
-        return result;
+        Page<ExerciseLog> page = exerciseLogRepository.findPageByUserIdAndDateBetween(userId, from, to, pageable);
+        return new PageImpl<>(toDTOs(page.getContent()), pageable, page.getTotalElements());
+    }
+
+    // 운동 기록 목록을 DTO로 변환 (연결된 루틴은 루틴 정보와 함께 묶어서 조회)
+    private List<ExerciseLogDTO> toDTOs(List<ExerciseLog> logs) {
+        if (logs.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Integer, List<ExerciseLogRoutine>> routinesByLogId = new HashMap<>();
+        List<Integer> logIds = logs.stream().map(ExerciseLog::getId).toList();
+        for (int i = 0; i < logIds.size(); i += ROUTINE_FETCH_CHUNK_SIZE) {
+            List<Integer> chunk = logIds.subList(i, Math.min(i + ROUTINE_FETCH_CHUNK_SIZE, logIds.size()));
+            for (ExerciseLogRoutine logRoutine : exerciseLogRoutineRepository.findWithRoutineByExerciseLogIds(chunk)) {
+                routinesByLogId.computeIfAbsent(logRoutine.getId().getExerciseLogId(), id -> new ArrayList<>()).add(logRoutine);
+            }
+        }
+        return logs.stream()
+                .map(log -> entityToDTO(log, routinesByLogId.getOrDefault(log.getId(), Collections.emptyList())))
+                .collect(Collectors.toList());
     }
 
     //운동 기록 삭제 - 연관된 ExerciseLogRoutine도 함께 삭제
@@ -0,0 +1,52 @@
+package org.synergym.backendapi.service;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * FastAPI(AI 서버) 호출 보호 (엔드포인트별 서킷 브레이커 + 동시 호출 제한)
+ * - AI 서버가 느려지거나 죽어도 요청 스레드가 묶이지 않도록 실패율/지연 호출 비율이 높으면 즉시 실패 처리
+ * - 엔드포인트별 동시 호출 수를 제한하여 한 기능의 지연이 다른 기능의 호출까지 막지 않도록 함
+ * - 설정은 resilience4j.circuitbreaker/bulkhead.instances.{엔드포인트}, 상태는 resilience4j.* 지표로 노출
+ * - 타임아웃은 보호 대상 호출 안쪽에 두어 타임아웃도 실패로 집계되도록 함
+ */
+@Component
+@RequiredArgsConstructor
+public class FastApiResilience {
+
+    public static final String AI_COACH = "ai-coach";
+    public static final String YOUTUBE = "youtube";
+    public static final String POSTURE_ANALYSIS = "posture-analysis";
+    public static final String GOAL = "goal";
+    public static final String RECOMMENDATION = "recommendation";
+    public static final String EMOTION = "emotion";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public <T> Mono<T> protect(String endpoint, Mono<T> call) {
+        return call
+                .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(endpoint)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(endpoint)));
+    }
+
+    public <T> Flux<T> protect(String endpoint, Flux<T> call) {
+        return call
+                .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(endpoint)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(endpoint)));
+    }
+
+    // 서킷이 열려 있거나 동시 호출 한도를 넘어 AI 서버를 호출하지 않고 거절된 경우
+    public static boolean isRejected(Throwable e) {
+        return e instanceof CallNotPermittedException || e instanceof BulkheadFullException
+                || e.getCause() instanceof CallNotPermittedException || e.getCause() instanceof BulkheadFullException;
+    }
+}
@@ -1,5 +1,6 @@
 package org.synergym.backendapi.service;
 
+import org.springframework.beans.factory.annotation.Value;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -9,6 +10,7 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 import org.synergym.backendapi.dto.ExerciseLogDTO;
 import org.synergym.backendapi.dto.GoalResponseDTO;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,7 +20,11 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class GoalGraphClient {
     private final AchievementService achievementService;
-    private final WebClient webClient = WebClient.create("http://localhost:8000");
+    private final WebClient webClient;
+    private final FastApiResilience fastApiResilience;
+
+    @Value("${fastapi.timeout.goal:60s}")
+    private Duration timeout;
 
     public GoalResponseDTO fetchGoals(List<ExerciseLogDTO> exerciseHistory, String coachPersona
     ) {
@@ -32,12 +38,14 @@ public class GoalGraphClient {
         try {
             // ▼▼▼ 변경점: 응답을 Map이 아닌 GoalResponseDTO.class로 직접 받도록 변경 ▼▼▼
             // 이렇게 하면 Jackson 라이브러리가 JSON 응답을 DTO 구조에 맞춰 자동으로 변환해줍니다.
-            GoalResponseDTO response = webClient.post()
-                    .uri("/workflow/generate-goal") // main.py의 APIRouter 경로에 맞게 수정
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(GoalResponseDTO.class) // Map.class -> GoalResponseDTO.class
+            GoalResponseDTO response = fastApiResilience.protect(FastApiResilience.GOAL,
+                    webClient.post()
+                            .uri("/workflow/generate-goal") // main.py의 APIRouter 경로에 맞게 수정
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(requestBody)
+                            .retrieve()
+                            .bodyToMono(GoalResponseDTO.class) // Map.class -> GoalResponseDTO.class
+                            .timeout(timeout))
                     .block();
 
             log.info("AI 목표 추천 서버로부터 응답을 성공적으로 변환했습니다: {}", response);
@@ -0,0 +1,8 @@
+package org.synergym.backendapi.service;
+
+/**
+ * 게시글 생성/수정/삭제 이벤트
+ * 트랜잭션 커밋 후 게시글 목록 캐시 무효화에 사용
+ */
+public record PostChangedEvent(Integer postId) {
+}
@@ -0,0 +1,126 @@
+package org.synergym.backendapi.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.synergym.backendapi.entity.Post;
+import org.synergym.backendapi.entity.PostCounter;
+import org.synergym.backendapi.exception.EntityNotFoundException;
+import org.synergym.backendapi.exception.ErrorCode;
+import org.synergym.backendapi.repository.PostCounterRepository;
+import org.synergym.backendapi.repository.PostRepository;
+
+/**
+ * 게시글 카운터 DB 직접 반영
+ * - Redis 버퍼를 사용할 수 없을 때만 호출되는 fallback 경로
+ * - 별도 빈으로 분리해 프록시를 거쳐 호출될 때만 트랜잭션(JDBC 커넥션)을 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCounterDirectWriter {
+
+    private final PostCounterRepository postCounterRepository;
+    private final PostRepository postRepository;
+
+    //좋아요 수 증가
+    @Transactional
+    public void incrementLikeCount(Integer postId) {
+        try {
+            PostCounter counter = getOrCreateCounter(postId);
+            counter.incrementLikeCount();
+            postCounterRepository.save(counter);
+            log.debug("Incremented like count for postId: {}", postId);
+        } catch (Exception e) {
+            log.error("Error incrementing like count for postId: {}", postId, e);
+            throw e;
+        }
+    }
+
+    //좋아요 수 감소
+    @Transactional
+    public void decrementLikeCount(Integer postId) {
+        try {
+            PostCounter counter = getOrCreateCounter(postId);
+            counter.decrementLikeCount();
+            postCounterRepository.save(counter);
+            log.debug("Decremented like count for postId: {}", postId);
+        } catch (Exception e) {
+            log.error("Error decrementing like count for postId: {}", postId, e);
+            throw e;
+        }
+    }
+
+    //댓글 수 증가
+    @Transactional
+    public void incrementCommentCount(Integer postId) {
+        try {
+            PostCounter counter = getOrCreateCounter(postId);
+            counter.incrementCommentCount();
+            postCounterRepository.save(counter);
+            log.debug("Incremented comment count for postId: {}", postId);
+        } catch (Exception e) {
+            log.error("Error incrementing comment count for postId: {}", postId, e);
+            throw e;
+        }
+    }
+
+    //댓글 수 감소
+    @Transactional
+    public void decrementCommentCount(Integer postId) {
+        try {
+            PostCounter counter = getOrCreateCounter(postId);
+            counter.decrementCommentCount();
+            postCounterRepository.save(counter);
+            log.debug("Decremented comment count for postId: {}", postId);
+        } catch (Exception e) {
+            log.error("Error decrementing comment count for postId: {}", postId, e);
+            throw e;
+        }
+    }
+
+    //조회 수 증가
+    @Transactional
+    public void incrementViewCount(Integer postId) {
+        try {
+            PostCounter counter = getOrCreateCounter(postId);
+            counter.incrementViewCount();
+            postCounterRepository.save(counter);
+            log.debug("Incremented view count for postId: {}", postId);
+        } catch (Exception e) {
+            log.error("Error incrementing view count for postId: {}", postId, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 카운터 조회 또는 생성 (안정적인 버전)
+     */
+    private PostCounter getOrCreateCounter(Integer postId) {
+        // 1. 기존 카운터 조회
+        PostCounter counter = postCounterRepository.findByPostId(postId).orElse(null);
+
+        if (counter != null) {
+            return counter;
+        }
+
+        // 2. Post 존재 여부 확인
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> {
+                    log.error("Post not found for postId: {}", postId);
+                    return new EntityNotFoundException(ErrorCode.POST_NOT_FOUND);
+                });
+
+        // 3. 새로운 PostCounter 생성
+        try {
+            counter = new PostCounter(post);
+            counter = postCounterRepository.save(counter);
+            log.info("Created new PostCounter for postId: {}", postId);
+            return counter;
+        } catch (Exception e) {
+            log.error("Error creating PostCounter for postId: {}", postId, e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package org.synergym.backendapi.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.synergym.backendapi.dto.PostCounterDTO;
+import org.synergym.backendapi.repository.PostCounterBatchRepository;
+import org.synergym.backendapi.repository.PostCounterBatchRepository.CounterDelta;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 집계 데이터 Redis 버퍼 (write-behind)
+ * - 좋아요/댓글/조회 수 증감을 Redis에서 원자적으로 누적
+ * - 주기적으로 누적된 증감분을 Post_Counters에 배치 UPDATE로 반영
+ * - 조회 시 Redis 캐시를 먼저 확인하고, 없으면 DB 값 + 미반영 증감분으로 채움
+ * - flush 중인 증감분은 inflight 해시로 옮겨 두고, 게시글별 세대(generation) 값을 flush 시작/완료 시 증가
+ *   캐시 채우기는 DB 조회 전에 읽은 세대가 그대로이고 inflight가 없을 때만 저장 (DB 조회와 flush가 겹치면 저장하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCounterRedisBuffer {
+
+    public static final String FIELD_LIKE = "like";
+    public static final String FIELD_COMMENT = "comment";
+    public static final String FIELD_VIEW = "view";
+
+    private static final String COUNTER_KEY_PREFIX = "post:counter:";
+    private static final String DELTA_KEY_PREFIX = "post:counter:delta:";
+    private static final String INFLIGHT_KEY_PREFIX = "post:counter:inflight:";
+    private static final String GENERATION_KEY_PREFIX = "post:counter:gen:";
+    private static final String DIRTY_KEY = "post:counter:dirty";
+
+    // flush가 비정상 종료되어 inflight가 남아도 이 시간이 지나면 다시 flush/캐시 가능
+    private static final long INFLIGHT_TTL_SECONDS = 300;
+
+    // 캐시가 있으면 캐시에도 반영(0 미만 방지), 증감분 누적 후 dirty set에 등록
+    private static final DefaultRedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  local v = redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) " +
+            "  if v < 0 then redis.call('HSET', KEYS[1], ARGV[1], 0) end " +
+            "end " +
+            "redis.call('HINCRBY', KEYS[2], ARGV[1], ARGV[2]) " +
+            "redis.call('SADD', KEYS[3], ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    // 누적된 증감분을 inflight 해시로 옮기고 세대 증가 (flush 중 들어온 증감은 새 해시에 쌓임)
+    // 다른 flush가 처리 중(inflight 존재)이면 옮기지 않고 dirty set에 다시 등록
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then " +
+            "  redis.call('SADD', KEYS[4], ARGV[3]) " +
+            "  return {} " +
+            "end " +
+            "local v = redis.call('HGETALL', KEYS[1]) " +
+            "if #v == 0 then return v end " +
+            "redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "redis.call('INCR', KEYS[3]) " +
+            "redis.call('EXPIRE', KEYS[3], ARGV[2]) " +
+            "return v",
+            List.class);
+
+    // DB 반영 완료: inflight 삭제 후 세대 증가
+    private static final DefaultRedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    // DB 반영 실패: inflight를 증감분 해시로 되돌리고 dirty set에 다시 등록
+    private static final DefaultRedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('HGETALL', KEYS[1]) " +
+            "for i = 1, #v, 2 do redis.call('HINCRBY', KEYS[2], v[i], v[i + 1]) end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('SADD', KEYS[3], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    // 캐시 채우기: 캐시가 있으면 그 값을 반환, 없으면 DB 값 + 증감분(0 미만 방지)을 계산하여
+    // inflight가 없고 세대가 DB 조회 전과 같을 때만 저장 - [like, comment, view] 반환
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> FILL_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  local c = redis.call('HMGET', KEYS[1], 'like', 'comment', 'view') " +
+            "  return {tonumber(c[1]) or 0, tonumber(c[2]) or 0, tonumber(c[3]) or 0} " +
+            "end " +
+            "local d = redis.call('HMGET', KEYS[2], 'like', 'comment', 'view') " +
+            "local v = {} " +
+            "for i = 1, 3 do v[i] = math.max(tonumber(ARGV[i]) + (tonumber(d[i]) or 0), 0) end " +
+            "if redis.call('EXISTS', KEYS[3]) == 0 and (redis.call('GET', KEYS[4]) or '') == ARGV[5] then " +
+            "  redis.call('HSET', KEYS[1], 'like', v[1], 'comment', v[2], 'view', v[3]) " +
+            "  redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+            "end " +
+            "return v",
+            List.class);
+
+    // 댓글 수 증감분만 삭제 (댓글 수를 실제 값으로 덮어쓸 때 이미 실제 값에 포함된 증감분이 다시 더해지지 않도록)
+    private static final DefaultRedisScript<Long> DISCARD_FIELD_SCRIPT = new DefaultRedisScript<>(
+            "return redis.call('HDEL', KEYS[1], ARGV[1])",
+            Long.class);
+
+    // 캐시 삭제 후 세대 증가 (DB 값을 직접 보정한 경우, 보정 전 값을 읽은 캐시 채우기가 저장되지 않도록)
+    private static final DefaultRedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostCounterBatchRepository postCounterBatchRepository;
+    private final PostTopKTracker postTopKTracker;
+
+    @Value("${post-counter.write-behind.enabled:true}")
+    private boolean enabled;
+
+    @Value("${post-counter.write-behind.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    @Value("${post-counter.write-behind.cache-ttl-minutes:60}")
+    private long cacheTtlMinutes;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 증감분을 Redis에 누적
+     * @return Redis 반영 성공 여부 (false면 호출 측에서 DB에 직접 반영)
+     */
+    public boolean increment(Integer postId, String field, long delta) {
+        if (!enabled) {
+            return false;
+        }
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT,
+                    List.of(counterKey(postId), deltaKey(postId), DIRTY_KEY),
+                    field, String.valueOf(delta), String.valueOf(postId));
+            return true;
+        } catch (Exception e) {
+            log.warn("Redis counter increment failed, falling back to DB - postId: {}, field: {}", postId, field, e);
+            return false;
+        }
+    }
+
+    // 캐시된 집계 데이터 조회 (없거나 Redis 오류 시 null)
+    public PostCounterDTO getCachedCounter(Integer postId) {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            Map<Object, Object> values = redisTemplate.opsForHash().entries(counterKey(postId));
+            if (values.isEmpty()) {
+                return null;
+            }
+            return PostCounterDTO.builder()
+                    .postId(postId)
+                    .likeCount(toInt(values.get(FIELD_LIKE)))
+                    .commentCount(toInt(values.get(FIELD_COMMENT)))
+                    .viewCount(toInt(values.get(FIELD_VIEW)))
+                    .build();
+        } catch (Exception e) {
+            log.warn("Redis counter read failed - postId: {}", postId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 캐시 세대 조회 (DB 조회 전에 호출하여 cacheCounter에 전달)
+     * @return 현재 세대 (없으면 빈 문자열, 비활성/Redis 오류 시 null)
+     */
+    public String readGeneration(Integer postId) {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            String generation = redisTemplate.opsForValue().get(generationKey(postId));
+            return generation != null ? generation : "";
+        } catch (Exception e) {
+            log.warn("Redis counter generation read failed - postId: {}", postId, e);
+            return null;
+        }
+    }
+
+    /**
+     * DB에서 읽은 값에 아직 반영되지 않은 증감분을 더해 캐시에 저장 (Lua 스크립트로 한 번에 처리)
+     * DB 조회 이후 flush/보정이 있었으면(세대 변경 또는 flush 진행 중) 값만 계산하고 저장하지 않음
+     * @param generation DB 조회 전에 readGeneration으로 읽은 값 (null이면 캐시하지 않음)
+     * @return 캐시 값 또는 미반영분이 더해진 값
+     */
+    public PostCounterDTO cacheCounter(PostCounterDTO dbCounter, String generation) {
+        if (!enabled || generation == null) {
+            return dbCounter;
+        }
+        try {
+            Integer postId = dbCounter.getPostId();
+            List<?> values = redisTemplate.execute(FILL_SCRIPT,
+                    List.of(counterKey(postId), deltaKey(postId), inflightKey(postId), generationKey(postId)),
+                    String.valueOf(dbCounter.getLikeCount()),
+                    String.valueOf(dbCounter.getCommentCount()),
+                    String.valueOf(dbCounter.getViewCount()),
+                    String.valueOf(Duration.ofMinutes(cacheTtlMinutes).toSeconds()),
+                    generation);
+            if (values == null || values.size() < 3) {
+                return dbCounter;
+            }
+            return PostCounterDTO.builder()
+                    .postId(postId)
+                    .likeCount(toInt(values.get(0)))
+                    .commentCount(toInt(values.get(1)))
+                    .viewCount(toInt(values.get(2)))
+                    .build();
+        } catch (Exception e) {
+            log.warn("Redis counter cache fill failed - postId: {}", dbCounter.getPostId(), e);
+            return dbCounter;
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 댓글 수 증감분 폐기 (댓글 수 동기화에서 실제 값으로 덮어쓰기 직전에 호출)
+     * Redis 오류는 그대로 던져 덮어쓰기를 중단 (증감분이 남은 채 덮어쓰면 중복 합산됨)
+     */
+    public void discardCommentDeltas(List<Integer> postIds) {
+        if (!enabled) {
+            return;
+        }
+        for (Integer postId : postIds) {
+            redisTemplate.execute(DISCARD_FIELD_SCRIPT, List.of(deltaKey(postId)), FIELD_COMMENT);
+        }
+    }
+
+    // 캐시 삭제 (DB 값이 직접 보정된 경우 다음 조회 시 다시 채움)
+    public void evictCounter(Integer postId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(counterKey(postId), generationKey(postId)), generationTtlSeconds());
+        } catch (Exception e) {
+            log.warn("Redis counter evict failed - postId: {}", postId, e);
+        }
+    }
+
+    // 누적된 증감분을 주기적으로 DB에 반영
+    @Scheduled(fixedDelayString = "${post-counter.write-behind.flush-interval-ms:5000}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<String> postIds;
+            do {
+                postIds = redisTemplate.opsForSet().pop(DIRTY_KEY, flushBatchSize);
+                if (postIds == null || postIds.isEmpty()) {
+                    return;
+                }
+                flushBatch(postIds);
+            } while (postIds.size() >= flushBatchSize);
+        } catch (Exception e) {
+            log.error("Error flushing post counters", e);
+        }
+    }
+
+    private void flushBatch(List<String> postIds) {
+        List<CounterDelta> deltas = new ArrayList<>();
+        for (String id : postIds) {
+            Integer postId = Integer.valueOf(id);
+            List<?> raw = redisTemplate.execute(DRAIN_SCRIPT,
+                    List.of(deltaKey(postId), inflightKey(postId), generationKey(postId), DIRTY_KEY),
+                    String.valueOf(INFLIGHT_TTL_SECONDS), generationTtlSeconds(), id);
+            if (raw == null || raw.isEmpty()) {
+                continue;
+            }
+            CounterDelta delta = toDelta(postId, raw);
+            if (delta.isEmpty()) {
+                // 증감분 합이 0이면 DB 반영 없이 inflight만 정리
+                complete(postId);
+            } else {
+                deltas.add(delta);
+            }
+        }
+
+        try {
+            postCounterBatchRepository.applyDeltas(deltas);
+            log.debug("Flushed post counter deltas - posts: {}", deltas.size());
+        } catch (Exception e) {
+            // DB 반영 실패 시 증감분을 되돌려 다음 flush에서 재시도
+            log.error("Error applying post counter deltas, re-queueing {} posts", deltas.size(), e);
+            deltas.forEach(delta -> restore(delta.postId()));
+            return;
+        }
+        deltas.forEach(delta -> complete(delta.postId()));
+        postTopKTracker.refresh(deltas.stream().map(CounterDelta::postId).toList());
+    }
+
+    private void complete(Integer postId) {
+        redisTemplate.execute(COMPLETE_SCRIPT, List.of(inflightKey(postId), generationKey(postId)), generationTtlSeconds());
+    }
+
+    private void restore(Integer postId) {
+        redisTemplate.execute(RESTORE_SCRIPT, List.of(inflightKey(postId), deltaKey(postId), DIRTY_KEY), String.valueOf(postId));
+    }
+
+    // HGETALL 결과([field, value, field, value, ...])를 증감분으로 변환
+    private CounterDelta toDelta(Integer postId, List<?> raw) {
+        long like = 0;
+        long comment = 0;
+        long view = 0;
+        if (raw != null) {
+            for (int i = 0; i + 1 < raw.size(); i += 2) {
+                String field = String.valueOf(raw.get(i));
+                long value = Long.parseLong(String.valueOf(raw.get(i + 1)));
+                switch (field) {
+                    case FIELD_LIKE -> like = value;
+                    case FIELD_COMMENT -> comment = value;
+                    case FIELD_VIEW -> view = value;
+                    default -> log.warn("Unknown counter field: {} for postId: {}", field, postId);
+                }
+            }
+        }
+        return new CounterDelta(postId, like, comment, view);
+    }
+
+    private int toInt(Object value) {
+        return value != null ? Integer.parseInt(value.toString()) : 0;
+    }
+
+    private String counterKey(Integer postId) {
+        return COUNTER_KEY_PREFIX + postId;
+    }
+
+    private String deltaKey(Integer postId) {
+        return DELTA_KEY_PREFIX + postId;
+    }
+
+    private String inflightKey(Integer postId) {
+        return INFLIGHT_KEY_PREFIX + postId;
+    }
+
+    private String generationKey(Integer postId) {
+        return GENERATION_KEY_PREFIX + postId;
+    }
+
+    // 세대 값은 캐시보다 오래 유지 (세대가 만료되면 진행 중인 캐시 채우기는 저장되지 않음)
+    private String generationTtlSeconds() {
+        return String.valueOf(Duration.ofMinutes(cacheTtlMinutes).toSeconds() * 2);
+    }
+}
@@ -1,5 +1,6 @@
 package org.synergym.backendapi.service;
 
+import org.synergym.backendapi.dto.CommentCountSyncStatusDTO;
 import org.synergym.backendapi.dto.PostCounterDTO;
 import org.synergym.backendapi.entity.PostCounter;
 
@@ -25,6 +26,12 @@ public interface PostCounterService {
     // 게시글 조회 수 증가
     void incrementViewCount(Integer postId);
 
+    // 게시글 조회 기록 (중복 제거 모드에서는 조회자의 첫 조회일 때만 조회 수 증가)
+    void recordView(Integer postId, String viewerId);
+
+    // 게시글 고유 조회자 수 조회 (HyperLogLog 근사값)
+    long getUniqueViewCount(Integer postId);
+
     // 게시글의 모든 집계 데이터 조회 (좋아요 수, 댓글 수, 조회 수)
     // 프론트엔드에서 게시글 목록/상세 표시용
     PostCounterDTO getCounter(Integer postId);
@@ -38,8 +45,12 @@ public interface PostCounterService {
     // 게시글의 조회 수만 조회
     Integer getViewCount(Integer postId);
 
-    // 기존 댓글들의 commentCount를 PostCounter에 반영 (마이그레이션용)
-    void syncCommentCounts();
+    // 기존 댓글들의 commentCount를 PostCounter에 반영 (마이그레이션/정합성 보정용)
+    // restart가 false면 마지막 체크포인트 다음 게시글부터 이어서 실행
+    CommentCountSyncStatusDTO syncCommentCounts(boolean restart);
+
+    // 댓글 수 동기화 진행 상황 조회
+    CommentCountSyncStatusDTO getCommentCountSyncStatus();
 
     // DTO -> Entity 변환
     default PostCounter dtoToEntity(PostCounterDTO dto) {
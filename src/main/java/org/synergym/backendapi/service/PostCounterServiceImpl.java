@@ -2,129 +2,139 @@ package org.synergym.backendapi.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.synergym.backendapi.dto.CommentCountSyncStatusDTO;
 import org.synergym.backendapi.dto.PostCounterDTO;
-import org.synergym.backendapi.entity.Post;
 import org.synergym.backendapi.entity.PostCounter;
-import org.synergym.backendapi.exception.EntityNotFoundException;
-import org.synergym.backendapi.exception.ErrorCode;
+import org.synergym.backendapi.repository.PostCounterBatchRepository;
+import org.synergym.backendapi.repository.PostCounterBatchRepository.CommentCountRow;
 import org.synergym.backendapi.repository.PostCounterRepository;
-import org.synergym.backendapi.repository.PostRepository;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostCounterServiceImpl implements PostCounterService {
     
+    private static final String COMMENT_SYNC_CHECKPOINT_KEY = "post:counter:comment-sync:checkpoint";
+    private static final String COMMENT_SYNC_LOCK_KEY = "post:counter:comment-sync:lock";
+
+    // 자신이 잡은 lock만 해제
+    private static final DefaultRedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
     private final PostCounterRepository postCounterRepository;
-    private final PostRepository postRepository;
+    private final PostCounterRedisBuffer postCounterRedisBuffer;
+    private final PostCounterDirectWriter postCounterDirectWriter;
+    private final PostViewCountAccumulator postViewCountAccumulator;
+    private final PostUniqueViewTracker postUniqueViewTracker;
+    private final PostCounterBatchRepository postCounterBatchRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    // 댓글 수 동기화 작업 상태 (동시에 하나만 실행)
+    private final AtomicBoolean commentSyncRunning = new AtomicBoolean(false);
+    private volatile CommentCountSyncStatusDTO commentSyncStatus;
+
+    @Value("${post-counter.comment-sync.chunk-size:1000}")
+    private int commentSyncChunkSize;
+
+    // 여러 서버에서 동시에 실행되지 않도록 잡는 lock의 TTL (청크마다 연장)
+    @Value("${post-counter.comment-sync.lock-ttl-seconds:300}")
+    private long commentSyncLockTtlSeconds;
 
     /**
-     * 카운터 조회 또는 생성 (안정적인 버전)
+     * 카운터 행이 없는 게시글에 행 생성
+     * 게시글 작성 시 카운터 생성이 실패한 경우에도 인기순 피드(post_counters 기준 조회)에서 빠지지 않도록 주기적으로 보정
      */
-    private PostCounter getOrCreateCounter(Integer postId) {
-        // 1. 기존 카운터 조회
-        PostCounter counter = postCounterRepository.findByPostId(postId).orElse(null);
-        
-        if (counter != null) {
-            return counter;
-        }
-        
-        // 2. Post 존재 여부 확인
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> {
-                    log.error("Post not found for postId: {}", postId);
-                    return new EntityNotFoundException(ErrorCode.POST_NOT_FOUND);
-                });
-        
-        // 3. 새로운 PostCounter 생성
+    @Scheduled(fixedDelayString = "${post-counter.missing-counter-backfill.interval-ms:600000}",
+               initialDelayString = "${post-counter.missing-counter-backfill.initial-delay-ms:10000}")
+    public void createMissingCounters() {
         try {
-            counter = new PostCounter(post);
-            counter = postCounterRepository.save(counter);
-            log.info("Created new PostCounter for postId: {}", postId);
-            return counter;
+            int created = postCounterBatchRepository.insertMissingCounters();
+            if (created > 0) {
+                log.info("Created missing post counters - posts: {}", created);
+            }
         } catch (Exception e) {
-            log.error("Error creating PostCounter for postId: {}", postId, e);
-            throw e;
+            log.error("Error creating missing post counters", e);
         }
     }
-    
-    //좋아요 수 증가
+
+    //좋아요 수 증가 (Redis에 누적 후 주기적으로 DB 반영, Redis 사용 불가 시에만 트랜잭션으로 DB 직접 반영)
     @Override
-    @Transactional
     public void incrementLikeCount(Integer postId) {
-        try {
-            PostCounter counter = getOrCreateCounter(postId);
-            counter.incrementLikeCount();
-            postCounterRepository.save(counter);
-            log.debug("Incremented like count for postId: {}", postId);
-        } catch (Exception e) {
-            log.error("Error incrementing like count for postId: {}", postId, e);
-            throw e;
+        if (postCounterRedisBuffer.increment(postId, PostCounterRedisBuffer.FIELD_LIKE, 1)) {
+            return;
         }
+        postCounterDirectWriter.incrementLikeCount(postId);
     }
 
     //좋아요 수 감소
     @Override
-    @Transactional
     public void decrementLikeCount(Integer postId) {
-        try {
-            PostCounter counter = getOrCreateCounter(postId);
-            counter.decrementLikeCount();
-            postCounterRepository.save(counter);
-            log.debug("Decremented like count for postId: {}", postId);
-        } catch (Exception e) {
-            log.error("Error decrementing like count for postId: {}", postId, e);
-            throw e;
+        if (postCounterRedisBuffer.increment(postId, PostCounterRedisBuffer.FIELD_LIKE, -1)) {
+            return;
         }
+        postCounterDirectWriter.decrementLikeCount(postId);
     }
 
     //댓글 수 증가
     @Override
-    @Transactional
     public void incrementCommentCount(Integer postId) {
-        try {
-            PostCounter counter = getOrCreateCounter(postId);
-            counter.incrementCommentCount();
-            postCounterRepository.save(counter);
-            log.debug("Incremented comment count for postId: {}", postId);
-        } catch (Exception e) {
-            log.error("Error incrementing comment count for postId: {}", postId, e);
-            throw e;
+        if (postCounterRedisBuffer.increment(postId, PostCounterRedisBuffer.FIELD_COMMENT, 1)) {
+            return;
         }
+        postCounterDirectWriter.incrementCommentCount(postId);
     }
 
     //댓글 수 감소
     @Override
-    @Transactional
     public void decrementCommentCount(Integer postId) {
-        try {
-            PostCounter counter = getOrCreateCounter(postId);
-            counter.decrementCommentCount();
-            postCounterRepository.save(counter);
-            log.debug("Decremented comment count for postId: {}", postId);
-        } catch (Exception e) {
-            log.error("Error decrementing comment count for postId: {}", postId, e);
-            throw e;
+        if (postCounterRedisBuffer.increment(postId, PostCounterRedisBuffer.FIELD_COMMENT, -1)) {
+            return;
         }
+        postCounterDirectWriter.decrementCommentCount(postId);
     }
 
     //조회 수 증가
     @Override
-    @Transactional
     public void incrementViewCount(Integer postId) {
-        try {
-            PostCounter counter = getOrCreateCounter(postId);
-            counter.incrementViewCount();
-            postCounterRepository.save(counter);
-            log.debug("Incremented view count for postId: {}", postId);
-        } catch (Exception e) {
-            log.error("Error incrementing view count for postId: {}", postId, e);
-            throw e;
+        // JVM 내부 누적 모드: 맵 조회 + LongAdder 증가만 수행하고 주기적으로 일괄 반영
+        if (postViewCountAccumulator.isEnabled()) {
+            postViewCountAccumulator.record(postId);
+            return;
+        }
+        if (postCounterRedisBuffer.increment(postId, PostCounterRedisBuffer.FIELD_VIEW, 1)) {
+            return;
         }
+        postCounterDirectWriter.incrementViewCount(postId);
+    }
+
+    //조회 기록 - 중복 제거 모드면 처음 보는 조회자일 때만 조회 수 증가
+    @Override
+    public void recordView(Integer postId, String viewerId) {
+        if (postUniqueViewTracker.isEnabled() && viewerId != null
+                && !postUniqueViewTracker.recordFirstView(postId, viewerId)) {
+            log.debug("Skipped repeat view for postId: {}", postId);
+            return;
+        }
+        incrementViewCount(postId);
+    }
+
+    //고유 조회자 수 조회
+    @Override
+    public long getUniqueViewCount(Integer postId) {
+        return postUniqueViewTracker.getUniqueViewCount(postId);
     }
 
     //게시글의 모든 집계 데이터 조회 (좋아요 수, 댓글 수, 조회 수)
@@ -132,6 +142,14 @@ public class PostCounterServiceImpl implements PostCounterService {
     @Transactional(readOnly = true)
     public PostCounterDTO getCounter(Integer postId) {
         try {
+            // Redis 캐시 우선 조회
+            PostCounterDTO cached = postCounterRedisBuffer.getCachedCounter(postId);
+            if (cached != null) {
+                return withPendingViews(cached);
+            }
+
+            // 캐시 세대는 DB 조회 전에 읽음 (조회 이후 flush가 끝나면 캐시하지 않음)
+            String generation = postCounterRedisBuffer.readGeneration(postId);
             PostCounter counter = postCounterRepository.findByPostId(postId).orElse(null);
             PostCounterDTO dto = entityToDTO(counter);
             
@@ -145,7 +163,8 @@ public class PostCounterServiceImpl implements PostCounterService {
                         .build();
             }
             
-            return dto;
+            // DB 값 + 아직 반영되지 않은 증감분으로 캐시 채움
+            return withPendingViews(postCounterRedisBuffer.cacheCounter(dto, generation));
         } catch (Exception e) {
             log.error("Error getting counter for postId: {}", postId, e);
             // 에러 발생 시 기본값 반환
@@ -163,6 +182,9 @@ public class PostCounterServiceImpl implements PostCounterService {
     @Transactional(readOnly = true)
     public Integer getLikeCount(Integer postId) {
         try {
+            if (postCounterRedisBuffer.isEnabled()) {
+                return getCounter(postId).getLikeCount();
+            }
             PostCounter counter = postCounterRepository.findByPostId(postId).orElse(null);
             return counter != null ? counter.getLikeCount() : 0;
         } catch (Exception e) {
@@ -176,6 +198,9 @@ public class PostCounterServiceImpl implements PostCounterService {
     @Transactional(readOnly = true)
     public Integer getCommentCount(Integer postId) {
         try {
+            if (postCounterRedisBuffer.isEnabled()) {
+                return getCounter(postId).getCommentCount();
+            }
             PostCounter counter = postCounterRepository.findByPostId(postId).orElse(null);
             return counter != null ? counter.getCommentCount() : 0;
         } catch (Exception e) {
@@ -189,40 +214,173 @@ public class PostCounterServiceImpl implements PostCounterService {
     @Transactional(readOnly = true)
     public Integer getViewCount(Integer postId) {
         try {
+            if (postCounterRedisBuffer.isEnabled()) {
+                return getCounter(postId).getViewCount();
+            }
             PostCounter counter = postCounterRepository.findByPostId(postId).orElse(null);
-            return counter != null ? counter.getViewCount() : 0;
+            int viewCount = counter != null ? counter.getViewCount() : 0;
+            return viewCount + (int) postViewCountAccumulator.pending(postId);
         } catch (Exception e) {
             log.error("Error getting view count for postId: {}", postId, e);
             return 0;
         }
     }
 
-    //기존 댓글들의 commentCount를 PostCounter에 반영 (마이그레이션용)
-    @Transactional
-    public void syncCommentCounts() {
+    //JVM에 누적 중이라 아직 반영되지 않은 조회 수 합산
+    private PostCounterDTO withPendingViews(PostCounterDTO dto) {
+        long pending = postViewCountAccumulator.pending(dto.getPostId());
+        if (pending > 0) {
+            dto.setViewCount(dto.getViewCount() + (int) pending);
+        }
+        return dto;
+    }
+
+    /**
+     * 기존 댓글들의 commentCount를 PostCounter에 반영 (마이그레이션/정합성 보정용)
+     * - post_id 기준 keyset 페이지 단위로 게시글을 읽고, 페이지마다 GROUP BY 한 번으로 실제 댓글 수 계산
+     * - 오차가 있는 게시글만 JDBC 배치로 보정
+     * - 페이지마다 체크포인트를 Redis에 저장하여 중단 시 이어서 실행 가능
+     * - 보정하는 게시글의 미반영 댓글 수 증감분은 덮어쓰기 직전에 폐기 (실제 값에 이미 포함)
+     * - Redis lock으로 여러 서버 중 한 곳에서만 실행
+     */
+    @Override
+    public CommentCountSyncStatusDTO syncCommentCounts(boolean restart) {
+        if (!commentSyncRunning.compareAndSet(false, true)) {
+            log.warn("Comment count sync is already running");
+            return commentSyncStatus;
+        }
+        // 다른 서버에서 실행 중이면 시작하지 않음
+        String lockToken = UUID.randomUUID().toString();
+        Boolean locked;
+        try {
+            locked = redisTemplate.opsForValue()
+                    .setIfAbsent(COMMENT_SYNC_LOCK_KEY, lockToken, Duration.ofSeconds(commentSyncLockTtlSeconds));
+        } catch (Exception e) {
+            commentSyncRunning.set(false);
+            throw e;
+        }
+        if (!Boolean.TRUE.equals(locked)) {
+            commentSyncRunning.set(false);
+            log.warn("Comment count sync is already running on another instance");
+            return getCommentCountSyncStatus();
+        }
+
+        int lastPostId = restart ? 0 : loadCommentSyncCheckpoint();
+        CommentCountSyncStatusDTO status = CommentCountSyncStatusDTO.builder()
+                .running(true)
+                .resumed(lastPostId > 0)
+                .startedAt(LocalDateTime.now())
+                .lastPostId(lastPostId)
+                .build();
+        commentSyncStatus = status;
+        log.info("Starting comment count sync - after postId: {}, chunkSize: {}", lastPostId, commentSyncChunkSize);
+
         try {
-            // 모든 Post 조회
-            List<Post> posts = postRepository.findAll();
-            
-            for (Post post : posts) {
-                // 실제 댓글 수 계산 (Post 엔티티의 comments 관계 사용)
-                int actualCommentCount = post.getComments().size();
-                
-                // PostCounter 조회 또는 생성
-                PostCounter counter = postCounterRepository.findByPostId(post.getId()).orElse(null);
-                if (counter == null) {
-                    counter = new PostCounter(post);
+            // Redis에 쌓인 댓글 수 증감분을 먼저 반영해야 보정 후 중복 합산되지 않음
+            postCounterRedisBuffer.flush();
+
+            List<CommentCountRow> chunk;
+            do {
+                chunk = postCounterBatchRepository.findCommentCountChunk(lastPostId, commentSyncChunkSize);
+                if (chunk.isEmpty()) {
+                    break;
                 }
-                
-                // commentCount 동기화
-                counter.setCommentCount(actualCommentCount);
-                postCounterRepository.save(counter);
-                
-                log.info("Synced comment count for postId: {} - count: {}", post.getId(), actualCommentCount);
-            }
+
+                // 실제 댓글 수에는 sync 시작 후 생성/삭제된 댓글도 포함되므로,
+                // 덮어쓰기 직전에 해당 게시글의 미반영 댓글 수 증감분을 버려 다음 flush에서 중복 반영되지 않도록 함
+                List<CommentCountRow> drifted = chunk.stream().filter(CommentCountRow::hasDrift).toList();
+                postCounterRedisBuffer.discardCommentDeltas(drifted.stream().map(CommentCountRow::postId).toList());
+                postCounterBatchRepository.correctCommentCounts(drifted);
+                drifted.forEach(row -> postCounterRedisBuffer.evictCounter(row.postId()));
+                redisTemplate.expire(COMMENT_SYNC_LOCK_KEY, Duration.ofSeconds(commentSyncLockTtlSeconds));
+
+                lastPostId = chunk.get(chunk.size() - 1).postId();
+                recordCommentSyncProgress(status, chunk.size(), drifted, lastPostId);
+                saveCommentSyncCheckpoint(lastPostId);
+                log.info("Comment count sync progress - lastPostId: {}, processed: {}, corrected: {}",
+                        lastPostId, status.getProcessedPosts(), status.getCorrectedPosts());
+            } while (chunk.size() >= commentSyncChunkSize);
+
+            // 끝까지 처리했으면 다음 실행은 처음부터
+            clearCommentSyncCheckpoint();
+            log.info("Comment count sync completed - processed: {}, corrected: {}, missing counters: {}, total drift: {}, max drift: {} (postId: {})",
+                    status.getProcessedPosts(), status.getCorrectedPosts(), status.getMissingCounters(),
+                    status.getTotalAbsDrift(), status.getMaxDrift(), status.getMaxDriftPostId());
+            return status;
         } catch (Exception e) {
-            log.error("Error syncing comment counts", e);
+            log.error("Error syncing comment counts - stopped after postId: {}", lastPostId, e);
+            status.setError(e.getMessage());
             throw e;
+        } finally {
+            status.setRunning(false);
+            status.setFinishedAt(LocalDateTime.now());
+            releaseCommentSyncLock(lockToken);
+            commentSyncRunning.set(false);
+        }
+    }
+
+    //댓글 수 동기화 진행 상황 조회
+    @Override
+    public CommentCountSyncStatusDTO getCommentCountSyncStatus() {
+        CommentCountSyncStatusDTO status = commentSyncStatus;
+        if (status == null) {
+            return CommentCountSyncStatusDTO.builder()
+                    .lastPostId(loadCommentSyncCheckpoint())
+                    .build();
+        }
+        return status;
+    }
+
+    private void recordCommentSyncProgress(CommentCountSyncStatusDTO status, int processed,
+                                           List<CommentCountRow> drifted, int lastPostId) {
+        status.setProcessedPosts(status.getProcessedPosts() + processed);
+        status.setCorrectedPosts(status.getCorrectedPosts() + drifted.size());
+        status.setLastPostId(lastPostId);
+        for (CommentCountRow row : drifted) {
+            if (row.storedCount() == null) {
+                status.setMissingCounters(status.getMissingCounters() + 1);
+            }
+            int drift = row.drift();
+            status.setTotalAbsDrift(status.getTotalAbsDrift() + Math.abs(drift));
+            if (Math.abs(drift) > Math.abs(status.getMaxDrift())) {
+                status.setMaxDrift(drift);
+                status.setMaxDriftPostId(row.postId());
+            }
+        }
+    }
+
+    private void releaseCommentSyncLock(String lockToken) {
+        try {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(COMMENT_SYNC_LOCK_KEY), lockToken);
+        } catch (Exception e) {
+            log.warn("Failed to release comment sync lock", e);
+        }
+    }
+
+    // 체크포인트 조회 (없거나 Redis 오류 시 처음부터)
+    private int loadCommentSyncCheckpoint() {
+        try {
+            String value = redisTemplate.opsForValue().get(COMMENT_SYNC_CHECKPOINT_KEY);
+            return value != null ? Integer.parseInt(value) : 0;
+        } catch (Exception e) {
+            log.warn("Failed to load comment sync checkpoint, starting from the beginning", e);
+            return 0;
+        }
+    }
+
+    private void saveCommentSyncCheckpoint(int lastPostId) {
+        try {
+            redisTemplate.opsForValue().set(COMMENT_SYNC_CHECKPOINT_KEY, String.valueOf(lastPostId));
+        } catch (Exception e) {
+            log.warn("Failed to save comment sync checkpoint - lastPostId: {}", lastPostId, e);
+        }
+    }
+
+    private void clearCommentSyncCheckpoint() {
+        try {
+            redisTemplate.delete(COMMENT_SYNC_CHECKPOINT_KEY);
+        } catch (Exception e) {
+            log.warn("Failed to clear comment sync checkpoint", e);
         }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,172 @@
+package org.synergym.backendapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.synergym.backendapi.dto.PostDTO;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 목록 페이지 캐시
+ * - 정렬/카테고리별 앞쪽 N개 페이지를 로컬(Caffeine) → Redis → DB 순으로 조회
+ * - 게시글 생성/수정/삭제 커밋 후 Redis 캐시를 지우고, Pub/Sub으로 모든 서버의 로컬 캐시를 비움
+ * - 집계 데이터(좋아요/댓글/조회 수) 변경은 TTL 만료 시 반영
+ * - 적중률: cache.gets{cache=post.feed.local}, post.feed.cache.redis{result=hit|miss}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostFeedCache implements MessageListener {
+
+    public static final String SORT_LATEST = "latest";
+    public static final String SORT_POPULAR = "popular";
+    public static final String INVALIDATE_CHANNEL = "post:feed:invalidate";
+
+    private static final String PAGE_KEY_PREFIX = "post:feed:page:";
+    private static final String PAGE_KEYS_KEY = "post:feed:keys";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${post-feed-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${post-feed-cache.max-pages:3}")
+    private int maxPages;
+
+    @Value("${post-feed-cache.local-max-size:1000}")
+    private long localMaxSize;
+
+    @Value("${post-feed-cache.local-ttl-seconds:10}")
+    private long localTtlSeconds;
+
+    @Value("${post-feed-cache.redis-ttl-seconds:30}")
+    private long redisTtlSeconds;
+
+    private Cache<String, CachedPage> localCache;
+    private Counter redisHits;
+    private Counter redisMisses;
+
+    // 캐시에 저장하는 페이지 내용 (PageImpl은 직렬화/역직렬화가 불안정하여 별도 저장)
+    public record CachedPage(List<PostDTO> content, long totalElements) {
+    }
+
+    @PostConstruct
+    void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "post.feed.local");
+        redisHits = meterRegistry.counter("post.feed.cache.redis", "result", "hit");
+        redisMisses = meterRegistry.counter("post.feed.cache.redis", "result", "miss");
+    }
+
+    /**
+     * 캐시된 페이지 조회, 없으면 loader로 조회 후 저장
+     * 캐시 대상이 아닌 요청(뒤쪽 페이지, 별도 정렬 조건)은 바로 loader 호출
+     */
+    public Page<PostDTO> getOrLoad(String sort, Integer categoryId, Pageable pageable, Supplier<Page<PostDTO>> loader) {
+        if (!enabled || pageable.isUnpaged() || pageable.getPageNumber() >= maxPages || pageable.getSort().isSorted()) {
+            return loader.get();
+        }
+
+        String key = sort + ":" + (categoryId != null ? categoryId : "all")
+                + ":" + pageable.getPageNumber() + ":" + pageable.getPageSize();
+
+        CachedPage cached = localCache.getIfPresent(key);
+        if (cached == null) {
+            cached = readRedis(key);
+            if (cached != null) {
+                localCache.put(key, cached);
+            }
+        }
+        if (cached != null) {
+            return new PageImpl<>(cached.content(), pageable, cached.totalElements());
+        }
+
+        Page<PostDTO> page = loader.get();
+        CachedPage loaded = new CachedPage(page.getContent(), page.getTotalElements());
+        localCache.put(key, loaded);
+        writeRedis(key, loaded);
+        return page;
+    }
+
+    // 게시글 변경 커밋 후 캐시 무효화
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        log.debug("Invalidating post feed cache - postId: {}", event.postId());
+        invalidateAll();
+    }
+
+    // Redis 캐시 삭제 후 모든 서버에 로컬 캐시 무효화 알림
+    public void invalidateAll() {
+        localCache.invalidateAll();
+        if (!enabled) {
+            return;
+        }
+        try {
+            Set<String> keys = redisTemplate.opsForSet().members(PAGE_KEYS_KEY);
+            if (keys != null && !keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+            redisTemplate.delete(PAGE_KEYS_KEY);
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, "all");
+        } catch (Exception e) {
+            log.warn("Redis post feed cache invalidation failed", e);
+        }
+    }
+
+    // 다른 서버에서 보낸 무효화 알림 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        localCache.invalidateAll();
+    }
+
+    private CachedPage readRedis(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(PAGE_KEY_PREFIX + key);
+            if (json == null) {
+                redisMisses.increment();
+                return null;
+            }
+            redisHits.increment();
+            return objectMapper.readValue(json, CachedPage.class);
+        } catch (Exception e) {
+            log.warn("Redis post feed cache read failed - key: {}", key, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, CachedPage page) {
+        try {
+            String redisKey = PAGE_KEY_PREFIX + key;
+            redisTemplate.opsForValue().set(redisKey, objectMapper.writeValueAsString(page), Duration.ofSeconds(redisTtlSeconds));
+            redisTemplate.opsForSet().add(PAGE_KEYS_KEY, redisKey);
+        } catch (Exception e) {
+            log.warn("Redis post feed cache write failed - key: {}", key, e);
+        }
+    }
+}
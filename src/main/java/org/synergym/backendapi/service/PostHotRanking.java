@@ -0,0 +1,208 @@
+package org.synergym.backendapi.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.synergym.backendapi.repository.PostRankingRepository;
+import org.synergym.backendapi.repository.PostRankingRepository.RankingInput;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글 "인기 급상승(hot)" 랭킹 (Redis Sorted Set)
+ * - 점수 = log10(가중 반응 수) + 작성 시각(초) / 감쇠 시간(초)
+ *   반응이 10배 많으면 감쇠 시간만큼 늦게 작성된 글과 같은 점수 (오래된 글은 자연스럽게 밀려남)
+ * - 점수가 현재 시각에 의존하지 않으므로 반응이 바뀔 수 있는 최근 게시글만 주기적으로 다시 계산
+ * - 전체 랭킹: post:hot, 카테고리별 랭킹: post:hot:category:{categoryId}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostHotRanking {
+
+    private static final String HOT_KEY = "post:hot";
+    private static final String CATEGORY_HOT_KEY_PREFIX = "post:hot:category:";
+    private static final String CATEGORY_KEYS_KEY = "post:hot:categories";
+    private static final String REFRESH_LOCK_KEY = "post:hot:lock";
+    private static final int CHUNK_SIZE = 1000;
+    private static final LocalDateTime FULL_REBUILD_FROM = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostRankingRepository postRankingRepository;
+
+    @Value("${post-hot-ranking.enabled:true}")
+    private boolean enabled;
+
+    @Value("${post-hot-ranking.like-weight:1.0}")
+    private double likeWeight;
+
+    @Value("${post-hot-ranking.comment-weight:2.0}")
+    private double commentWeight;
+
+    @Value("${post-hot-ranking.view-weight:0.1}")
+    private double viewWeight;
+
+    // 반응 수가 10배 차이 날 때 같은 점수가 되는 작성 시각 차이
+    @Value("${post-hot-ranking.decay-hours:12}")
+    private double decayHours;
+
+    // 반응 변화를 반영해 다시 계산할 최근 게시글 범위
+    @Value("${post-hot-ranking.active-window-days:7}")
+    private int activeWindowDays;
+
+    // 랭킹별 최대 보관 게시글 수
+    @Value("${post-hot-ranking.max-size:10000}")
+    private int maxSize;
+
+    @Value("${post-hot-ranking.refresh-interval-ms:60000}")
+    private long refreshIntervalMs;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 랭킹 구간 조회 (점수 높은 순)
+     * @return 게시글 ID 목록 (Redis 오류 시 null)
+     */
+    public List<Integer> getRange(Integer categoryId, long offset, int size) {
+        try {
+            Set<String> ids = redisTemplate.opsForZSet().reverseRange(key(categoryId), offset, offset + size - 1);
+            if (ids == null) {
+                return null;
+            }
+            return ids.stream().map(Integer::valueOf).toList();
+        } catch (Exception e) {
+            log.warn("Redis hot ranking read failed - categoryId: {}", categoryId, e);
+            return null;
+        }
+    }
+
+    // 랭킹에 포함된 게시글 수 (Redis 오류 시 -1)
+    public long size(Integer categoryId) {
+        try {
+            Long size = redisTemplate.opsForZSet().zCard(key(categoryId));
+            return size != null ? size : 0L;
+        } catch (Exception e) {
+            log.warn("Redis hot ranking size failed - categoryId: {}", categoryId, e);
+            return -1L;
+        }
+    }
+
+    // 최근 게시글 점수 갱신 (랭킹이 비어 있으면 전체 재계산)
+    @Scheduled(fixedDelayString = "${post-hot-ranking.refresh-interval-ms:60000}",
+               initialDelayString = "${post-hot-ranking.initial-delay-ms:10000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            // 여러 서버 중 한 곳에서만 실행
+            Boolean locked = redisTemplate.opsForValue()
+                    .setIfAbsent(REFRESH_LOCK_KEY, "1", Duration.ofMillis(refreshIntervalMs));
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+
+            boolean rebuild = !Boolean.TRUE.equals(redisTemplate.hasKey(HOT_KEY));
+            LocalDateTime createdAfter = rebuild
+                    ? FULL_REBUILD_FROM
+                    : LocalDateTime.now().minusDays(activeWindowDays);
+
+            int updated = 0;
+            int lastPostId = 0;
+            List<RankingInput> chunk;
+            do {
+                chunk = postRankingRepository.findRankingInputs(createdAfter, lastPostId, CHUNK_SIZE);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                writeScores(chunk);
+                updated += chunk.size();
+                lastPostId = chunk.get(chunk.size() - 1).postId();
+            } while (chunk.size() >= CHUNK_SIZE);
+
+            trim();
+            log.debug("Refreshed hot ranking - rebuild: {}, posts: {}", rebuild, updated);
+        } catch (Exception e) {
+            log.error("Error refreshing hot ranking", e);
+        }
+    }
+
+    // 랭킹 점수 계산
+    double score(RankingInput input) {
+        double engagement = input.likeCount() * likeWeight
+                + input.commentCount() * commentWeight
+                + input.viewCount() * viewWeight;
+        long createdSeconds = input.createdAt().atZone(ZoneId.systemDefault()).toEpochSecond();
+        return Math.log10(Math.max(engagement, 1.0)) + createdSeconds / (decayHours * 3600);
+    }
+
+    // 전체/카테고리별 랭킹에 한 번씩 ZADD
+    private void writeScores(List<RankingInput> chunk) {
+        Set<TypedTuple<String>> all = new HashSet<>();
+        Map<Integer, Set<TypedTuple<String>>> byCategory = new HashMap<>();
+        for (RankingInput input : chunk) {
+            TypedTuple<String> tuple = TypedTuple.of(String.valueOf(input.postId()), score(input));
+            all.add(tuple);
+            byCategory.computeIfAbsent(input.categoryId(), id -> new HashSet<>()).add(tuple);
+        }
+        redisTemplate.opsForZSet().add(HOT_KEY, all);
+        byCategory.forEach((categoryId, tuples) -> redisTemplate.opsForZSet().add(key(categoryId), tuples));
+        redisTemplate.opsForSet().add(CATEGORY_KEYS_KEY,
+                byCategory.keySet().stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    // 점수 낮은 게시글부터 정리하여 랭킹별 최대 크기 유지
+    private void trim() {
+        redisTemplate.opsForZSet().removeRange(HOT_KEY, 0, -(maxSize + 1L));
+        Set<String> categoryIds = redisTemplate.opsForSet().members(CATEGORY_KEYS_KEY);
+        if (categoryIds != null) {
+            categoryIds.forEach(id -> redisTemplate.opsForZSet().removeRange(CATEGORY_HOT_KEY_PREFIX + id, 0, -(maxSize + 1L)));
+        }
+    }
+
+    /**
+     * 게시글이 다른 카테고리로 옮겨진 경우 현재 점수 그대로 새 카테고리 랭킹으로 이동
+     * 주기적 갱신은 최근 게시글만 다시 계산하므로 오래된 게시글도 여기서 바로 옮김
+     */
+    public void moveCategory(Integer postId, Integer fromCategoryId, Integer toCategoryId) {
+        try {
+            String member = String.valueOf(postId);
+            Double score = redisTemplate.opsForZSet().score(HOT_KEY, member);
+            if (score != null) {
+                redisTemplate.opsForZSet().add(key(toCategoryId), member, score);
+                redisTemplate.opsForSet().add(CATEGORY_KEYS_KEY, String.valueOf(toCategoryId));
+            }
+            redisTemplate.opsForZSet().remove(key(fromCategoryId), member);
+        } catch (Exception e) {
+            log.warn("Redis hot ranking move failed - postId: {}", postId, e);
+        }
+    }
+
+    // 삭제된 게시글을 전체/카테고리 랭킹에서 제거
+    public void remove(Integer postId, Integer categoryId) {
+        try {
+            String member = String.valueOf(postId);
+            redisTemplate.opsForZSet().remove(HOT_KEY, member);
+            redisTemplate.opsForZSet().remove(key(categoryId), member);
+        } catch (Exception e) {
+            log.warn("Redis hot ranking remove failed - postId: {}", postId, e);
+        }
+    }
+
+    private String key(Integer categoryId) {
+        return categoryId != null ? CATEGORY_HOT_KEY_PREFIX + categoryId : HOT_KEY;
+    }
+}
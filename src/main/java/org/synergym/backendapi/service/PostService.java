@@ -3,6 +3,8 @@ package org.synergym.backendapi.service;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.synergym.backendapi.dto.PostDTO;
+import org.synergym.backendapi.dto.PostFeedDTO;
+import org.synergym.backendapi.dto.PostSummary;
 import org.synergym.backendapi.entity.Post;
 
 import java.util.List;
@@ -21,6 +23,9 @@ public interface PostService {
     // 페이징된 게시글 조회 (인기순)
     Page<PostDTO> getPostsWithPagingByPopularity(Pageable pageable);
 
+    // 페이징된 게시글 조회 (인기 급상승순, categoryId가 null이면 전체)
+    Page<PostDTO> getHotPosts(Integer categoryId, Pageable pageable);
+
     // ID로 게시글 조회
     PostDTO getPostById(Integer id);
 
@@ -30,8 +35,8 @@ public interface PostService {
     // 게시글 삭제
     void deletePost(Integer id);
 
-    // 제목 또는 내용으로 게시글 검색
-    List<PostDTO> searchPosts(String keyword);
+    // 제목 또는 내용으로 게시글 검색 (관련도순, 페이징)
+    Page<PostDTO> searchPosts(String keyword, Pageable pageable);
 
     // 사용자별 게시글 조회 (페이징)
     Page<PostDTO> getPostsByUserIdWithPaging(Integer userId, Pageable pageable);
@@ -42,6 +47,12 @@ public interface PostService {
     // 카테고리별 게시글 조회 (페이징, 인기순)
     Page<PostDTO> getPostsByCategoryIdWithPagingByPopularity(Integer categoryId, Pageable pageable);
 
+    // 게시글 피드 조회 (커서 기반, 최신순, categoryId가 null이면 전체)
+    PostFeedDTO getRecentFeed(Integer categoryId, String cursor, int size);
+
+    // 게시글 피드 조회 (커서 기반, 인기순, categoryId가 null이면 전체)
+    PostFeedDTO getPopularFeed(Integer categoryId, String cursor, int size);
+
     // DTO -> Entity 변환
     default Post dtoToEntity(PostDTO dto) {
         if (dto == null) {
@@ -76,4 +87,27 @@ public interface PostService {
                 .useYn(post.getUseYn())
                 .build();
     }
-} 
\ No newline at end of file
+
+    // 목록 조회 프로젝션 -> DTO 변환
+    default PostDTO summaryToDTO(PostSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+        return PostDTO.builder()
+                .id(summary.getId())
+                .userId(summary.getUserId())
+                .userName(summary.getUserName())
+                .categoryId(summary.getCategoryId())
+                .categoryName(summary.getCategoryName())
+                .title(summary.getTitle())
+                .content(summary.getContent())
+                .imageUrl(summary.getImageUrl())
+                .likeCount(summary.getLikeCount())
+                .commentCount(summary.getCommentCount())
+                .viewCount(summary.getViewCount())
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
+                .useYn(summary.getUseYn())
+                .build();
+    }
+}
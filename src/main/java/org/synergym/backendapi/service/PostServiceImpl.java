@@ -1,11 +1,16 @@
 package org.synergym.backendapi.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.synergym.backendapi.dto.PostDTO;
+import org.synergym.backendapi.dto.PostFeedDTO;
+import org.synergym.backendapi.dto.PostSummary;
 import org.synergym.backendapi.entity.Category;
 import org.synergym.backendapi.entity.Post;
 import org.synergym.backendapi.entity.PostCounter;
@@ -16,18 +21,29 @@ import org.synergym.backendapi.repository.CategoryRepository;
 import org.synergym.backendapi.repository.PostCounterRepository;
 import org.synergym.backendapi.repository.PostRepository;
 import org.synergym.backendapi.repository.UserRepository;
+import org.synergym.backendapi.util.PostFeedCursor;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PostServiceImpl implements PostService {
     
+    private static final int MAX_FEED_SIZE = 100;
+
     private final PostRepository postRepository;
     private final PostCounterRepository postCounterRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
+    private final PostFeedCache postFeedCache;
+    private final SearchIndexer searchIndexer;
+    private final PostHotRanking postHotRanking;
+    private final ApplicationEventPublisher eventPublisher;
 
     //ID로 게시글 조회 (없으면 예외 발생)
     private Post findPostById(int id) {
@@ -67,6 +83,7 @@ public class PostServiceImpl implements PostService {
             
             // 3. Post 엔티티 저장
             Post savedPost = postRepository.save(post);
+            searchIndexer.indexPost(savedPost.getId(), savedPost.getTitle(), savedPost.getContent());
             
             // 4. PostCounter 자동 생성 (안정적인 버전)
             try {
@@ -78,6 +95,8 @@ public class PostServiceImpl implements PostService {
                 // 로그만 남기고 계속 진행
             }
             
+            // 커밋 후 게시글 목록 캐시 무효화
+            eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId()));
             return savedPost.getId();
         } catch (Exception e) {
             throw e;
@@ -88,13 +107,9 @@ public class PostServiceImpl implements PostService {
     @Override
     @Transactional(readOnly = true)
     public List<PostDTO> getAllPosts() {
-        return postRepository.findAll()
+        return postRepository.findAllSummaries()
                 .stream()
-                .map(post -> {
-                    // comments를 로드하여 댓글 수를 정확히 계산
-                    post.getComments().size(); // comments를 로드하기 위해 호출
-                    return entityToDTO(post);
-                })
+                .map(this::summaryToDTO)
                 .collect(Collectors.toList());
     }
 
@@ -102,34 +117,48 @@ public class PostServiceImpl implements PostService {
     @Override
     @Transactional(readOnly = true)
     public Page<PostDTO> getPostsWithPaging(Pageable pageable) {
-        return postRepository.findAllByOrderByCreatedAtDesc(pageable)
-                .map(post -> {
-                    // comments를 로드하여 댓글 수를 정확히 계산
-                    post.getComments().size(); // comments를 로드하기 위해 호출
-                    return entityToDTO(post);
-                });
+        // 작성자/카테고리/집계 데이터를 한 번에 조회 (페이지당 데이터 + count 쿼리 2회)
+        // 앞쪽 페이지는 캐시에서 조회
+        return postFeedCache.getOrLoad(PostFeedCache.SORT_LATEST, null, pageable,
+                () -> postRepository.findSummariesOrderByCreatedAtDesc(pageable)
+                        .map(this::summaryToDTO));
     }
 
     //페이징 처리된 게시글 목록 조회(인기순)
     @Override
     @Transactional(readOnly = true)
     public Page<PostDTO> getPostsWithPagingByPopularity(Pageable pageable) {
-        return postRepository.findAllByOrderByLikeCountDesc(pageable)
-                .map(post -> {
-                    // comments를 로드하여 댓글 수를 정확히 계산
-                    post.getComments().size(); // comments를 로드하기 위해 호출
-                    return entityToDTO(post);
-                });
+        return postFeedCache.getOrLoad(PostFeedCache.SORT_POPULAR, null, pageable,
+                () -> postRepository.findSummariesOrderByLikeCountDesc(pageable)
+                        .map(this::summaryToDTO));
+    }
+
+    //페이징 처리된 게시글 목록 조회(인기 급상승순) - 주기적으로 계산된 Redis 랭킹에서 조회
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PostDTO> getHotPosts(Integer categoryId, Pageable pageable) {
+        if (postHotRanking.isEnabled()) {
+            long total = postHotRanking.size(categoryId);
+            List<Integer> ids = total > 0
+                    ? postHotRanking.getRange(categoryId, pageable.getOffset(), pageable.getPageSize())
+                    : null;
+            if (ids != null) {
+                return new PageImpl<>(findPostsInOrder(ids), pageable, total);
+            }
+        }
+        // 랭킹이 아직 없거나 Redis를 사용할 수 없으면 좋아요순으로 대체
+        return categoryId == null
+                ? getPostsWithPagingByPopularity(pageable)
+                : getPostsByCategoryIdWithPagingByPopularity(categoryId, pageable);
     }
 
     //ID로 게시글 단건 조회
     @Override
     @Transactional(readOnly = true)
     public PostDTO getPostById(Integer id) {
-        Post post = findPostById(id);
-        // comments를 로드하여 댓글 수를 정확히 계산
-        post.getComments().size(); // comments를 로드하기 위해 호출
-        return entityToDTO(post);
+        return postRepository.findSummaryById(id)
+                .map(this::summaryToDTO)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.POST_NOT_FOUND));
     }
 
     //게시글 수정
@@ -149,10 +178,16 @@ public class PostServiceImpl implements PostService {
         }
         if (postDTO.getCategoryId() != null) {
             Category category = findCategoryById(postDTO.getCategoryId());
+            // 카테고리가 바뀌면 현재 점수 그대로 새 카테고리 랭킹으로 이동
+            if (post.getCategory().getId() != category.getId()) {
+                postHotRanking.moveCategory(post.getId(), post.getCategory().getId(), category.getId());
+            }
             post.updateCategory(category);
         }
         
         postRepository.save(post);
+        searchIndexer.indexPost(post.getId(), post.getTitle(), post.getContent());
+        eventPublisher.publishEvent(new PostChangedEvent(id));
     }
 
     //게시글 삭제(soft delete)
@@ -162,19 +197,30 @@ public class PostServiceImpl implements PostService {
         Post post = postRepository.findById(id)
                         .orElseThrow(() -> new EntityNotFoundException(ErrorCode.POST_NOT_FOUND));
         post.softDelete();
+        postHotRanking.remove(post.getId(), post.getCategory().getId());
+        eventPublisher.publishEvent(new PostChangedEvent(id));
     }
 
-    //게시글 제목/내용 키워드 검색
+    //게시글 제목/내용 키워드 검색 (전문 검색 색인, 관련도순)
     @Override
     @Transactional(readOnly = true)
-    public List<PostDTO> searchPosts(String keyword) {
-        return postRepository.findByTitleContainingOrContentContaining(keyword, keyword)
+    public Page<PostDTO> searchPosts(String keyword, Pageable pageable) {
+        Page<Integer> ids = searchIndexer.searchPostIds(keyword, pageable);
+        if (ids.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        return new PageImpl<>(findPostsInOrder(ids.getContent()), pageable, ids.getTotalElements());
+    }
+
+    //ID 목록 순서대로 게시글 조회 (검색/랭킹 결과용)
+    private List<PostDTO> findPostsInOrder(List<Integer> ids) {
+        Map<Integer, PostSummary> summaries = postRepository.findSummariesByIdIn(ids)
                 .stream()
-                .map(post -> {
-                    // comments를 로드하여 댓글 수를 정확히 계산
-                    post.getComments().size(); // comments를 로드하기 위해 호출
-                    return entityToDTO(post);
-                })
+                .collect(Collectors.toMap(PostSummary::getId, Function.identity()));
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .map(this::summaryToDTO)
                 .collect(Collectors.toList());
     }
 
@@ -182,35 +228,82 @@ public class PostServiceImpl implements PostService {
     @Override
     @Transactional(readOnly = true)
     public Page<PostDTO> getPostsByUserIdWithPaging(Integer userId, Pageable pageable) {
-        return postRepository.findByUserId(userId, pageable)
-                .map(post -> {
-                    // comments를 로드하여 댓글 수를 정확히 계산
-                    post.getComments().size(); // comments를 로드하기 위해 호출
-                    return entityToDTO(post);
-                });
+        return postRepository.findSummariesByUserId(userId, pageable)
+                .map(this::summaryToDTO);
     }
 
     //카테고리별 게시글 목록 페이징 조회(최신순)
     @Override
     @Transactional(readOnly = true)
     public Page<PostDTO> getPostsByCategoryIdWithPaging(Integer categoryId, Pageable pageable) {
-        return postRepository.findByCategoryIdOrderByCreatedAtDesc(categoryId, pageable)
-                .map(post -> {
-                    // comments를 로드하여 댓글 수를 정확히 계산
-                    post.getComments().size(); // comments를 로드하기 위해 호출
-                    return entityToDTO(post);
-                });
+        return postFeedCache.getOrLoad(PostFeedCache.SORT_LATEST, categoryId, pageable,
+                () -> postRepository.findSummariesByCategoryIdOrderByCreatedAtDesc(categoryId, pageable)
+                        .map(this::summaryToDTO));
     }
 
     //카테고리별 게시글 목록 페이징 조회(인기순)
     @Override
     @Transactional(readOnly = true)
     public Page<PostDTO> getPostsByCategoryIdWithPagingByPopularity(Integer categoryId, Pageable pageable) {
-        return postRepository.findByCategoryIdOrderByLikeCountDesc(categoryId, pageable)
-                .map(post -> {
-                    // comments를 로드하여 댓글 수를 정확히 계산
-                    post.getComments().size(); // comments를 로드하기 위해 호출
-                    return entityToDTO(post);
-                });
-    }
-} 
\ No newline at end of file
+        return postFeedCache.getOrLoad(PostFeedCache.SORT_POPULAR, categoryId, pageable,
+                () -> postRepository.findSummariesByCategoryIdOrderByLikeCountDesc(categoryId, pageable)
+                        .map(this::summaryToDTO));
+    }
+
+    //게시글 피드 조회(최신순) - (createdAt, postId) 커서로 다음 페이지 조회
+    @Override
+    @Transactional(readOnly = true)
+    public PostFeedDTO getRecentFeed(Integer categoryId, String cursor, int size) {
+        LocalDateTime createdAt = PostFeedCursor.FIRST_PAGE_CREATED_AT;
+        int postId = PostFeedCursor.FIRST_PAGE_POST_ID;
+        if (cursor != null && !cursor.isBlank()) {
+            PostFeedCursor decoded = PostFeedCursor.decode(cursor);
+            createdAt = decoded.createdAt();
+            postId = decoded.postId();
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, feedSize(size) + 1);
+        List<PostSummary> rows = categoryId == null
+                ? postRepository.findRecentFeed(createdAt, postId, limit)
+                : postRepository.findRecentFeedByCategoryId(categoryId, createdAt, postId, limit);
+        return toFeed(rows, feedSize(size), last -> PostFeedCursor.of(last.getCreatedAt(), last.getId()));
+    }
+
+    //게시글 피드 조회(인기순) - (likeCount, postId) 커서로 다음 페이지 조회
+    //스크롤 중 좋아요 수가 바뀐 게시글은 중복/누락될 수 있음
+    @Override
+    @Transactional(readOnly = true)
+    public PostFeedDTO getPopularFeed(Integer categoryId, String cursor, int size) {
+        int likeCount = PostFeedCursor.FIRST_PAGE_LIKE_COUNT;
+        int postId = PostFeedCursor.FIRST_PAGE_POST_ID;
+        if (cursor != null && !cursor.isBlank()) {
+            PostFeedCursor decoded = PostFeedCursor.decode(cursor);
+            likeCount = decoded.likeCount();
+            postId = decoded.postId();
+        }
+
+        Pageable limit = PageRequest.of(0, feedSize(size) + 1);
+        List<PostSummary> rows = categoryId == null
+                ? postRepository.findPopularFeed(likeCount, postId, limit)
+                : postRepository.findPopularFeedByCategoryId(categoryId, likeCount, postId, limit);
+        return toFeed(rows, feedSize(size), last -> PostFeedCursor.of(last.getLikeCount(), last.getId()));
+    }
+
+    //피드 페이지 크기 (1 ~ MAX_FEED_SIZE)
+    private int feedSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+    }
+
+    //조회 결과를 피드 응답으로 변환 (size + 1번째 행이 있으면 다음 페이지 존재)
+    private PostFeedDTO toFeed(List<PostSummary> rows, int size, Function<PostSummary, PostFeedCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<PostSummary> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return PostFeedDTO.builder()
+                .posts(page.stream().map(this::summaryToDTO).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package org.synergym.backendapi.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.synergym.backendapi.dto.PostCounterDTO;
+import org.synergym.backendapi.repository.PostCounterBatchRepository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 조회/댓글/좋아요 수 상위 게시글 (Redis Sorted Set, 항목별 최대 capacity개 유지)
+ * - 집계 데이터가 DB에 반영될 때마다 해당 게시글의 현재 값으로 ZADD 후 capacity 초과분 정리
+ * - 값이 줄어든 게시글 때문에 밀려난 게시글은 주기적 재구성(post_counters 인덱스 상위 조회)으로 보정
+ * - 조회 시 ZREVRANGE로 상위 K개만 읽음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostTopKTracker {
+
+    // 집계 항목별 Sorted Set 키와 DB 컬럼
+    public enum Metric {
+        VIEWS("post:top:views", "view_count", PostCounterDTO::getViewCount),
+        COMMENTS("post:top:comments", "comment_count", PostCounterDTO::getCommentCount),
+        LIKES("post:top:likes", "like_count", PostCounterDTO::getLikeCount);
+
+        private final String key;
+        private final String column;
+        private final ToIntFunction<PostCounterDTO> value;
+
+        Metric(String key, String column, ToIntFunction<PostCounterDTO> value) {
+            this.key = key;
+            this.column = column;
+            this.value = value;
+        }
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostCounterBatchRepository postCounterBatchRepository;
+
+    @Value("${post-top-k.enabled:true}")
+    private boolean enabled;
+
+    // 항목별 보관 게시글 수 (대시보드 표시 개수보다 넉넉하게)
+    @Value("${post-top-k.capacity:100}")
+    private int capacity;
+
+    /**
+     * 집계 데이터가 반영된 게시글들의 현재 값으로 갱신
+     * 게시글 ID 목록을 받아 post_counters를 기본 키로 한 번에 조회
+     */
+    public void refresh(List<Integer> postIds) {
+        if (!enabled || postIds.isEmpty()) {
+            return;
+        }
+        try {
+            List<PostCounterDTO> counters = postCounterBatchRepository.findCounters(postIds);
+            for (Metric metric : Metric.values()) {
+                Set<TypedTuple<String>> tuples = counters.stream()
+                        .map(counter -> TypedTuple.of(String.valueOf(counter.getPostId()),
+                                (double) metric.value.applyAsInt(counter)))
+                        .collect(Collectors.toSet());
+                if (!tuples.isEmpty()) {
+                    redisTemplate.opsForZSet().add(metric.key, tuples);
+                    redisTemplate.opsForZSet().removeRange(metric.key, 0, -(capacity + 1L));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Error updating top-k posts - posts: {}", postIds.size(), e);
+        }
+    }
+
+    /**
+     * 상위 k개 게시글 ID와 값 (값 높은 순)
+     * 아직 만들어지지 않았거나 Redis 오류 시 DB 인덱스에서 직접 조회
+     */
+    public Map<Integer, Integer> getTop(Metric metric, int k) {
+        if (enabled) {
+            try {
+                Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet().reverseRangeWithScores(metric.key, 0, k - 1);
+                if (tuples != null && !tuples.isEmpty()) {
+                    Map<Integer, Integer> top = new LinkedHashMap<>();
+                    tuples.forEach(tuple -> top.put(Integer.valueOf(tuple.getValue()), tuple.getScore().intValue()));
+                    return top;
+                }
+            } catch (Exception e) {
+                log.warn("Redis top-k read failed - metric: {}", metric, e);
+            }
+        }
+        Map<Integer, Integer> top = new LinkedHashMap<>();
+        postCounterBatchRepository.findTopCounters(metric.column, k)
+                .forEach(counter -> top.put(counter.getPostId(), metric.value.applyAsInt(counter)));
+        return top;
+    }
+
+    // DB 상위 capacity개로 주기적 재구성 (임시 키에 만든 뒤 RENAME으로 교체)
+    @Scheduled(fixedDelayString = "${post-top-k.rebuild-interval-ms:600000}",
+               initialDelayString = "${post-top-k.initial-delay-ms:15000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        for (Metric metric : Metric.values()) {
+            try {
+                List<PostCounterDTO> counters = postCounterBatchRepository.findTopCounters(metric.column, capacity);
+                if (counters.isEmpty()) {
+                    redisTemplate.delete(metric.key);
+                    continue;
+                }
+                String tmpKey = metric.key + ":rebuild";
+                redisTemplate.delete(tmpKey);
+                redisTemplate.opsForZSet().add(tmpKey, counters.stream()
+                        .map(counter -> TypedTuple.of(String.valueOf(counter.getPostId()),
+                                (double) metric.value.applyAsInt(counter)))
+                        .collect(Collectors.toSet()));
+                redisTemplate.rename(tmpKey, metric.key);
+            } catch (Exception e) {
+                log.error("Error rebuilding top-k posts - metric: {}", metric, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.synergym.backendapi.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+
+/**
+ * 게시글 고유 조회자 추적 (Redis HyperLogLog)
+ * - 게시글당 HyperLogLog 하나(최대 약 12KB)에 조회자 식별값을 기록
+ * - 처음 보는 조회자일 때만 true를 반환하여 새로고침/봇의 반복 조회를 조회 수에서 제외
+ * - 고유 조회자 수는 근사값 (표준 오차 약 0.81%)
+ * - 조회자 식별값은 인증된 사용자(이메일) 또는 프록시를 거친 실제 접속 IP를 비밀 키로 HMAC 처리한 값
+ *   (키는 post-counter.unique-view.ip-hash-salt, application-secret.yml에 설정)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostUniqueViewTracker {
+
+    private static final String VIEWER_KEY_PREFIX = "post:viewers:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${post-counter.unique-view.enabled:true}")
+    private boolean enabled;
+
+    // 조회자 식별값 HMAC 키 (비어 있으면 기동 시 임의 생성 - 재시작/서버 간에 같은 조회자를 구분하지 못함)
+    @Value("${post-counter.unique-view.ip-hash-salt:}")
+    private String ipHashSalt;
+
+    private SecretKeySpec viewerKeySpec;
+
+    @PostConstruct
+    public void initViewerKey() {
+        byte[] key;
+        if (ipHashSalt == null || ipHashSalt.isBlank()) {
+            log.warn("post-counter.unique-view.ip-hash-salt is not set, using a random key for this process");
+            key = new byte[32];
+            new SecureRandom().nextBytes(key);
+        } else {
+            key = ipHashSalt.getBytes(StandardCharsets.UTF_8);
+        }
+        viewerKeySpec = new SecretKeySpec(key, "HmacSHA256");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 조회자 기록
+     * @return 처음 조회한 경우 true (Redis 오류 시에도 조회 수가 누락되지 않도록 true)
+     */
+    public boolean recordFirstView(Integer postId, String viewerId) {
+        try {
+            Long changed = redisTemplate.opsForHyperLogLog().add(viewerKey(postId), viewerId);
+            return changed != null && changed > 0;
+        } catch (Exception e) {
+            log.warn("Redis unique view record failed - postId: {}", postId, e);
+            return true;
+        }
+    }
+
+    // 고유 조회자 수 (근사값)
+    public long getUniqueViewCount(Integer postId) {
+        try {
+            Long count = redisTemplate.opsForHyperLogLog().size(viewerKey(postId));
+            return count != null ? count : 0L;
+        } catch (Exception e) {
+            log.warn("Redis unique view count failed - postId: {}", postId, e);
+            return 0L;
+        }
+    }
+
+    /**
+     * 조회자 식별값 생성
+     * 인증된 사용자는 이메일, 그 외에는 접속 IP를 HMAC-SHA256으로 변환 (원래 값을 역산할 수 없도록 비밀 키 사용)
+     * @param userEmail 보안 컨텍스트의 사용자 이메일 (요청 파라미터 값을 넘기지 않음)
+     * @param clientIp 신뢰하는 프록시를 거쳐 확인된 접속 IP (request.getRemoteAddr())
+     */
+    public String viewerId(String userEmail, String clientIp) {
+        if (userEmail != null) {
+            return "user:" + hmac(userEmail);
+        }
+        return "ip:" + hmac(clientIp != null ? clientIp : "unknown");
+    }
+
+    private String hmac(String value) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(viewerKeySpec);
+            return HexFormat.of().formatHex(mac.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private String viewerKey(Integer postId) {
+        return VIEWER_KEY_PREFIX + postId;
+    }
+}
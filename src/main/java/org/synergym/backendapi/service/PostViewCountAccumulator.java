@@ -0,0 +1,157 @@
+package org.synergym.backendapi.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.synergym.backendapi.repository.PostCounterBatchRepository;
+import org.synergym.backendapi.repository.PostCounterBatchRepository.CounterDelta;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회 수 JVM 내부 누적기
+ * - 조회 시 DB/Redis 접근 없이 게시글별 LongAdder만 증가
+ * - 주기적으로 누적분을 모아 게시글당 한 번씩 반영
+ *   (Redis write-behind가 켜져 있으면 Redis로 넘기고, 아니면 DB에 배치 UPDATE)
+ * - flush 주기가 비정상 종료 시 유실될 수 있는 최대 구간이며, 정상 종료 시에는 모두 반영
+ * - 누적 게시글 수가 한도를 넘으면 postViewFlushExecutor에서 flush (요청 스레드는 기다리지 않음)
+ * - LongAdder는 맵에 둔 채 sumThenReset으로 꺼내고, 조회가 없던 게시글만 맵에서 제거
+ *   (제거 직전에 가져간 LongAdder에 증가한 조회는 record에서 다시 맵으로 옮김)
+ */
+@Slf4j
+@Component
+public class PostViewCountAccumulator {
+
+    private final Map<Integer, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    // 한도 초과로 요청된 flush가 이미 대기/실행 중인지 여부
+    private final AtomicBoolean overflowFlushRequested = new AtomicBoolean(false);
+
+    private final PostCounterBatchRepository postCounterBatchRepository;
+    private final PostCounterRedisBuffer postCounterRedisBuffer;
+    private final PostTopKTracker postTopKTracker;
+    private final Executor postViewFlushExecutor;
+
+    @Value("${post-counter.view-accumulator.enabled:true}")
+    private boolean enabled;
+
+    // 누적 중인 게시글 수가 이 값을 넘으면 주기와 관계없이 즉시 flush
+    @Value("${post-counter.view-accumulator.max-pending-posts:10000}")
+    private int maxPendingPosts;
+
+    public PostViewCountAccumulator(PostCounterBatchRepository postCounterBatchRepository,
+                                    PostCounterRedisBuffer postCounterRedisBuffer,
+                                    PostTopKTracker postTopKTracker,
+                                    @Qualifier("postViewFlushExecutor") Executor postViewFlushExecutor) {
+        this.postCounterBatchRepository = postCounterBatchRepository;
+        this.postCounterRedisBuffer = postCounterRedisBuffer;
+        this.postTopKTracker = postTopKTracker;
+        this.postViewFlushExecutor = postViewFlushExecutor;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 조회 수 1 누적
+    public void record(Integer postId) {
+        LongAdder adder = pendingViews.computeIfAbsent(postId, id -> new LongAdder());
+        adder.increment();
+        // flush에서 조회 없는 게시글로 보고 제거한 LongAdder였다면 증가분을 맵의 LongAdder로 옮김
+        if (pendingViews.get(postId) != adder) {
+            long late = adder.sumThenReset();
+            if (late > 0) {
+                pendingViews.computeIfAbsent(postId, id -> new LongAdder()).add(late);
+            }
+        }
+        if (pendingViews.size() > maxPendingPosts) {
+            requestOverflowFlush();
+        }
+    }
+
+    // 한도 초과 시 flush를 별도 스레드에 맡김 (이미 요청된 flush가 있으면 무시)
+    private void requestOverflowFlush() {
+        if (!overflowFlushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            postViewFlushExecutor.execute(() -> {
+                try {
+                    flush();
+                } finally {
+                    overflowFlushRequested.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            overflowFlushRequested.set(false);
+            log.warn("View count overflow flush rejected, waiting for scheduled flush");
+        }
+    }
+
+    // 아직 반영되지 않은 조회 수 (조회 API에서 합산용)
+    public long pending(Integer postId) {
+        LongAdder adder = pendingViews.get(postId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    // loss window 설정값 주기로 누적분 반영
+    @Scheduled(fixedDelayString = "${post-counter.view-accumulator.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (pendingViews.isEmpty()) {
+            return;
+        }
+
+        // 누적분을 꺼내고 0으로 초기화 (동시에 들어온 조회는 이번 또는 다음 flush에 반영)
+        // 직전 flush 이후 조회가 없던 게시글은 맵에서 제거
+        List<CounterDelta> deltas = new ArrayList<>();
+        for (Map.Entry<Integer, LongAdder> entry : pendingViews.entrySet()) {
+            long views = entry.getValue().sumThenReset();
+            if (views > 0) {
+                deltas.add(new CounterDelta(entry.getKey(), 0, 0, views));
+            } else if (pendingViews.remove(entry.getKey(), entry.getValue())) {
+                // 확인 후 제거 전까지 들어온 조회는 다시 맵으로 옮김
+                long late = entry.getValue().sumThenReset();
+                if (late > 0) {
+                    pendingViews.computeIfAbsent(entry.getKey(), id -> new LongAdder()).add(late);
+                }
+            }
+        }
+
+        // Redis write-behind가 켜져 있으면 Redis 캐시/증감분에 합류, 실패분만 DB에 직접 반영
+        if (postCounterRedisBuffer.isEnabled()) {
+            deltas = deltas.stream()
+                    .filter(delta -> !postCounterRedisBuffer.increment(delta.postId(), PostCounterRedisBuffer.FIELD_VIEW, delta.viewDelta()))
+                    .toList();
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            postCounterBatchRepository.applyDeltas(deltas);
+            log.debug("Flushed view counts - posts: {}", deltas.size());
+            postTopKTracker.refresh(deltas.stream().map(CounterDelta::postId).toList());
+        } catch (Exception e) {
+            // 반영 실패 시 다음 주기에 재시도
+            log.error("Error flushing view counts, re-queueing {} posts", deltas.size(), e);
+            deltas.forEach(delta -> pendingViews.computeIfAbsent(delta.postId(), id -> new LongAdder()).add(delta.viewDelta()));
+        }
+    }
+
+    // 정상 종료 시 남은 조회 수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Flushing pending view counts before shutdown - posts: {}", pendingViews.size());
+        flush();
+    }
+}
@@ -0,0 +1,331 @@
+package org.synergym.backendapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.synergym.backendapi.dto.AnalysisHistoryDTO;
+import org.synergym.backendapi.dto.PostureAnalysisJobDTO;
+import org.synergym.backendapi.dto.PostureAnalysisJobDTO.Status;
+import org.synergym.backendapi.exception.EntityNotFoundException;
+import org.synergym.backendapi.exception.ErrorCode;
+import org.synergym.backendapi.exception.ServiceOverloadedException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 자세 분석 비동기 작업
+ * - 접수 즉시 작업 ID를 반환하고, postureAnalysisExecutor 풀에서 분석/분석기록 저장을 실행
+ * - 작업 상태는 Redis(posture:job:{jobId})에 TTL과 함께 저장하여 어느 서버에서든 폴링 가능
+ * - 완료 시 Redis Pub/Sub으로 알려 각 서버가 구독 중인 SSE 연결에 결과를 전송
+ * - Idempotency-Key가 같은 재접수는 새 작업을 만들지 않고 기존 작업 반환
+ * - 대기/실행 중 작업 수(posture.analysis.job.queued/running), 대기/분석 시간 지표 기록
+ * - 대기 큐가 가득 차면 503 + Retry-After로 거절 (같은 Idempotency-Key로 재시도 가능)
+ */
+@Slf4j
+@Service
+public class PostureAnalysisJobService implements MessageListener {
+
+    public static final String DONE_CHANNEL = "posture:job:done";
+
+    private static final String JOB_KEY_PREFIX = "posture:job:";
+    private static final String IDEMPOTENCY_KEY_PREFIX = "posture:job:idem:";
+
+    private static final int IDEMPOTENCY_CLAIM_ATTEMPTS = 3;
+
+    // Idempotency-Key가 만료/삭제된 작업을 가리킬 때만 새 작업으로 교체 (그 사이 다른 요청이 교체했으면 실패)
+    private static final DefaultRedisScript<Long> REPLACE_STALE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) " +
+            "  return 1 " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    private final PostureAnalysisService postureAnalysisService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor postureAnalysisExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Timer waitTimer;
+
+    @Value("${posture-analysis.job-ttl-minutes:60}")
+    private long jobTtlMinutes;
+
+    @Value("${posture-analysis.sse-timeout-ms:180000}")
+    private long sseTimeoutMs;
+
+    // 대기 큐가 가득 차 거절할 때 클라이언트에 안내할 재시도 대기 시간
+    @Value("${posture-analysis.retry-after-seconds:30}")
+    private long retryAfterSeconds;
+
+    public PostureAnalysisJobService(PostureAnalysisService postureAnalysisService,
+                                     StringRedisTemplate redisTemplate,
+                                     ObjectMapper objectMapper,
+                                     @Qualifier("postureAnalysisExecutor") ThreadPoolTaskExecutor postureAnalysisExecutor,
+                                     MeterRegistry meterRegistry) {
+        this.postureAnalysisService = postureAnalysisService;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.postureAnalysisExecutor = postureAnalysisExecutor;
+        this.meterRegistry = meterRegistry;
+        this.waitTimer = Timer.builder("posture.analysis.job.wait")
+                .description("자세 분석 작업 접수부터 실행 시작까지 대기 시간")
+                .register(meterRegistry);
+        Gauge.builder("posture.analysis.job.queued", postureAnalysisExecutor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("실행 대기 중인 자세 분석 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("posture.analysis.job.running", postureAnalysisExecutor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("실행 중인 자세 분석 작업 수")
+                .register(meterRegistry);
+    }
+
+    // 단일 이미지 분석 작업 접수 (idempotencyKey는 선택)
+    public PostureAnalysisJobDTO submit(int userId, String imageUrl, String mode, String idempotencyKey) {
+        requireImageUrl(imageUrl, "imageUrl");
+        return enqueue(idempotencyKey, PostureAnalysisJobDTO.builder()
+                .userId(userId)
+                .type(PostureAnalysisJobDTO.TYPE_SINGLE)
+                .mode(mode)
+                .frontImageUrl(imageUrl)
+                .build());
+    }
+
+    // 정면/측면 merge 분석 작업 접수 (idempotencyKey는 선택)
+    public PostureAnalysisJobDTO submitMerge(int userId, String frontImageUrl, String sideImageUrl, String idempotencyKey) {
+        requireImageUrl(frontImageUrl, "front_image_url");
+        requireImageUrl(sideImageUrl, "side_image_url");
+        return enqueue(idempotencyKey, PostureAnalysisJobDTO.builder()
+                .userId(userId)
+                .type(PostureAnalysisJobDTO.TYPE_MERGE)
+                .frontImageUrl(frontImageUrl)
+                .sideImageUrl(sideImageUrl)
+                .build());
+    }
+
+    // 작업 상태 조회
+    public PostureAnalysisJobDTO getJob(String jobId) {
+        PostureAnalysisJobDTO job = readJob(jobId);
+        if (job == null) {
+            throw new EntityNotFoundException(ErrorCode.ANALYSIS_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    /**
+     * 작업 완료 구독 (SSE)
+     * 현재 상태를 "status" 이벤트로 보내고, 완료되면 "done" 이벤트 전송 후 연결 종료
+     */
+    public SseEmitter subscribe(String jobId) {
+        PostureAnalysisJobDTO job = getJob(jobId);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        if (job.isFinished()) {
+            sendAndComplete(emitter, job);
+            return emitter;
+        }
+
+        List<SseEmitter> jobEmitters = emitters.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>());
+        jobEmitters.add(emitter);
+        emitter.onCompletion(() -> jobEmitters.remove(emitter));
+        emitter.onTimeout(() -> jobEmitters.remove(emitter));
+        emitter.onError(e -> jobEmitters.remove(emitter));
+        try {
+            emitter.send(SseEmitter.event().name("status").data(job));
+        } catch (Exception e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+
+        // 구독 등록 전에 완료된 경우 알림을 놓치지 않도록 다시 확인
+        PostureAnalysisJobDTO latest = readJob(jobId);
+        if (latest != null && latest.isFinished()) {
+            notifyLocal(jobId);
+        }
+        return emitter;
+    }
+
+    // 다른 서버(또는 자신)에서 완료된 작업 알림 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        notifyLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private PostureAnalysisJobDTO enqueue(String idempotencyKey, PostureAnalysisJobDTO job) {
+        job.setJobId(UUID.randomUUID().toString());
+        job.setStatus(Status.QUEUED);
+        job.setSubmittedAt(LocalDateTime.now());
+
+        // 작업을 먼저 저장한 뒤 Idempotency-Key를 선점 (동시에 들어온 같은 키의 요청이 항상 작업을 읽을 수 있도록)
+        saveJob(job);
+
+        // 같은 Idempotency-Key로 이미 접수된 작업이 있으면 그 작업 반환
+        String idempotencyRedisKey = null;
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            idempotencyRedisKey = IDEMPOTENCY_KEY_PREFIX
+                    + PostureAnalysisResultCache.hash(job.getUserId() + "|" + idempotencyKey.strip());
+            PostureAnalysisJobDTO existing = claimIdempotencyKey(idempotencyRedisKey, job.getJobId());
+            if (existing != null) {
+                redisTemplate.delete(jobKey(job.getJobId()));
+                log.debug("Returning existing posture analysis job for idempotency key - jobId: {}", existing.getJobId());
+                return existing;
+            }
+        }
+
+        try {
+            postureAnalysisExecutor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            redisTemplate.delete(jobKey(job.getJobId()));
+            if (idempotencyRedisKey != null) {
+                redisTemplate.delete(idempotencyRedisKey);
+            }
+            meterRegistry.counter("posture.analysis.job.rejected").increment();
+            log.warn("Posture analysis queue full, rejecting job - userId: {}", job.getUserId());
+            throw new ServiceOverloadedException(ErrorCode.ANALYSIS_QUEUE_FULL, retryAfterSeconds);
+        }
+        log.info("Posture analysis job queued - jobId: {}, userId: {}, type: {}", job.getJobId(), job.getUserId(), job.getType());
+        return job;
+    }
+
+    private void run(PostureAnalysisJobDTO job) {
+        job.setStatus(Status.RUNNING);
+        job.setStartedAt(LocalDateTime.now());
+        waitTimer.record(Duration.between(job.getSubmittedAt(), job.getStartedAt()));
+        saveJob(job);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            AnalysisHistoryDTO saved = PostureAnalysisJobDTO.TYPE_MERGE.equals(job.getType())
+                    ? postureAnalysisService.analyzeMerge(job.getUserId(), job.getFrontImageUrl(), job.getSideImageUrl(), null)
+                    : postureAnalysisService.analyze(job.getUserId(), job.getFrontImageUrl(), job.getMode(), null);
+            job.setStatus(Status.SUCCEEDED);
+            job.setHistoryId(saved.getId());
+            job.setResult(saved);
+        } catch (Exception e) {
+            log.error("Posture analysis job failed - jobId: {}, userId: {}", job.getJobId(), job.getUserId(), e);
+            job.setStatus(Status.FAILED);
+            job.setError(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            sample.stop(meterRegistry.timer("posture.analysis.job.duration", "outcome", job.getStatus().name().toLowerCase()));
+        }
+
+        job.setFinishedAt(LocalDateTime.now());
+        saveJob(job);
+        publishDone(job.getJobId());
+    }
+
+    private void publishDone(String jobId) {
+        try {
+            redisTemplate.convertAndSend(DONE_CHANNEL, jobId);
+        } catch (Exception e) {
+            // Pub/Sub 실패 시 최소한 이 서버의 구독자에게는 전달 (다른 서버 구독자는 폴링/타임아웃으로 확인)
+            log.warn("Redis posture job notification failed - jobId: {}", jobId, e);
+            notifyLocal(jobId);
+        }
+    }
+
+    // 이 서버에서 해당 작업을 구독 중인 SSE 연결에 결과 전송
+    private void notifyLocal(String jobId) {
+        List<SseEmitter> jobEmitters = emitters.remove(jobId);
+        if (jobEmitters == null || jobEmitters.isEmpty()) {
+            return;
+        }
+        PostureAnalysisJobDTO job = readJob(jobId);
+        if (job == null) {
+            jobEmitters.forEach(SseEmitter::complete);
+            return;
+        }
+        jobEmitters.forEach(emitter -> sendAndComplete(emitter, job));
+    }
+
+    private void sendAndComplete(SseEmitter emitter, PostureAnalysisJobDTO job) {
+        try {
+            emitter.send(SseEmitter.event().name("done").data(job));
+            emitter.complete();
+        } catch (Exception e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * Idempotency-Key 선점
+     * 키가 만료된 작업을 가리키면 그 값일 때만 교체하고, 교체 경쟁에서 지면 이긴 요청의 작업을 다시 읽음
+     * @return 이미 같은 키로 접수된 작업 (선점에 성공했으면 null)
+     */
+    private PostureAnalysisJobDTO claimIdempotencyKey(String idempotencyRedisKey, String jobId) {
+        Duration ttl = Duration.ofMinutes(jobTtlMinutes);
+        for (int attempt = 0; attempt < IDEMPOTENCY_CLAIM_ATTEMPTS; attempt++) {
+            if (!Boolean.FALSE.equals(redisTemplate.opsForValue().setIfAbsent(idempotencyRedisKey, jobId, ttl))) {
+                return null;
+            }
+            String ownerJobId = redisTemplate.opsForValue().get(idempotencyRedisKey);
+            PostureAnalysisJobDTO existing = readJob(ownerJobId);
+            if (existing != null) {
+                return existing;
+            }
+            if (ownerJobId != null) {
+                Long replaced = redisTemplate.execute(REPLACE_STALE_SCRIPT, List.of(idempotencyRedisKey),
+                        ownerJobId, jobId, String.valueOf(ttl.toSeconds()));
+                if (replaced != null && replaced > 0) {
+                    return null;
+                }
+            }
+        }
+        log.warn("Could not resolve idempotency key owner, accepting as a new job - jobId: {}", jobId);
+        return null;
+    }
+
+    private void saveJob(PostureAnalysisJobDTO job) {
+        try {
+            redisTemplate.opsForValue().set(jobKey(job.getJobId()), objectMapper.writeValueAsString(job),
+                    Duration.ofMinutes(jobTtlMinutes));
+        } catch (Exception e) {
+            log.error("Error saving posture analysis job - jobId: {}", job.getJobId(), e);
+        }
+    }
+
+    private PostureAnalysisJobDTO readJob(String jobId) {
+        if (jobId == null) {
+            return null;
+        }
+        String json = redisTemplate.opsForValue().get(jobKey(jobId));
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, PostureAnalysisJobDTO.class);
+        } catch (Exception e) {
+            log.error("Error reading posture analysis job - jobId: {}", jobId, e);
+            return null;
+        }
+    }
+
+    private void requireImageUrl(String imageUrl, String field) {
+        if (imageUrl == null || imageUrl.isBlank()) {
+            throw new IllegalStateException(field + " 값이 필요합니다.");
+        }
+    }
+
+    private String jobKey(String jobId) {
+        return JOB_KEY_PREFIX + jobId;
+    }
+}
@@ -0,0 +1,133 @@
+package org.synergym.backendapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.synergym.backendapi.dto.AnalysisHistoryDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 자세 분석 결과 Redis 캐시 / 서버 간 중복 실행 방지
+ * - 요청 키(유저 + 이미지 URL + 모드, 또는 유저 + Idempotency-Key)의 해시 기준
+ * - 최근 결과를 result-ttl-minutes 동안 보관하여 재시도/중복 클릭 시 분석 없이 같은 분석기록 반환
+ * - 실행 중인 요청은 lock 키로 표시하여 다른 서버의 같은 요청은 결과가 나올 때까지 대기
+ * - Redis 오류 시에는 캐시 없이 분석을 그대로 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostureAnalysisResultCache {
+
+    private static final String RESULT_KEY_PREFIX = "posture:analysis:result:";
+    private static final String LOCK_KEY_PREFIX = "posture:analysis:lock:";
+
+    // 자신이 잡은 lock만 해제
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${posture-analysis.dedup.result-ttl-minutes:10}")
+    private long resultTtlMinutes;
+
+    // Python 서버 분석 타임아웃(fastapi.timeout.posture-analysis)보다 길게 설정
+    @Value("${posture-analysis.dedup.lock-ttl-seconds:120}")
+    private long lockTtlSeconds;
+
+    @Value("${posture-analysis.dedup.wait-poll-ms:500}")
+    private long waitPollMs;
+
+    // 요청 키 해시 (SHA-256)
+    public static String hash(String requestKey) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(requestKey.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 최근 결과 조회 (없거나 Redis 오류 시 null)
+    public AnalysisHistoryDTO get(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(RESULT_KEY_PREFIX + key);
+            return json != null ? objectMapper.readValue(json, AnalysisHistoryDTO.class) : null;
+        } catch (Exception e) {
+            log.warn("Posture analysis result cache read failed - key: {}", key, e);
+            return null;
+        }
+    }
+
+    public void put(String key, AnalysisHistoryDTO result) {
+        try {
+            redisTemplate.opsForValue().set(RESULT_KEY_PREFIX + key, objectMapper.writeValueAsString(result),
+                    Duration.ofMinutes(resultTtlMinutes));
+        } catch (Exception e) {
+            log.warn("Posture analysis result cache write failed - key: {}", key, e);
+        }
+    }
+
+    /**
+     * 실행 권한 획득 시도
+     * @return 이 서버가 실행해야 하면 true (Redis 오류 시에도 true)
+     */
+    public boolean tryClaim(String key) {
+        try {
+            Boolean claimed = redisTemplate.opsForValue()
+                    .setIfAbsent(LOCK_KEY_PREFIX + key, instanceId, Duration.ofSeconds(lockTtlSeconds));
+            return !Boolean.FALSE.equals(claimed);
+        } catch (Exception e) {
+            log.warn("Posture analysis lock failed, running without lock - key: {}", key, e);
+            return true;
+        }
+    }
+
+    public void release(String key) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY_PREFIX + key), instanceId);
+        } catch (Exception e) {
+            log.warn("Posture analysis lock release failed - key: {}", key, e);
+        }
+    }
+
+    /**
+     * 다른 서버에서 실행 중인 같은 요청의 결과 대기
+     * @return 결과 (실행 서버가 실패해 lock이 풀렸거나 lock TTL이 지나면 null)
+     */
+    public AnalysisHistoryDTO awaitResult(String key) {
+        long deadline = System.currentTimeMillis() + Duration.ofSeconds(lockTtlSeconds).toMillis();
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                AnalysisHistoryDTO result = get(key);
+                if (result != null) {
+                    return result;
+                }
+                if (!Boolean.TRUE.equals(redisTemplate.hasKey(LOCK_KEY_PREFIX + key))) {
+                    // lock 해제와 결과 저장 사이 경합 대비 한 번 더 확인
+                    return get(key);
+                }
+                Thread.sleep(waitPollMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Posture analysis result wait failed - key: {}", key, e);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,242 @@
+package org.synergym.backendapi.service;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.synergym.backendapi.dto.AnalysisHistoryDTO;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 자세 분석 실행
+ * Python 서버(PostureGraphClient)에 분석을 요청하고 결과를 AnalysisHistory로 저장
+ * (동기 API와 비동기 분석 작업이 함께 사용)
+ * - 같은 요청(유저 + 이미지 URL + 모드, Idempotency-Key가 있으면 유저 + 키)은 한 번만 분석
+ *   · 이 서버에서 실행 중이면 그 결과를 함께 기다림, 다른 서버에서 실행 중이면 Redis 결과를 기다림
+ *   · 최근 결과가 있으면 분석 없이 같은 분석기록 반환 (중복 분석기록 저장 방지)
+ * - 중복 제거 현황: posture.analysis.dedup{result=cache_hit|coalesced|remote_wait}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostureAnalysisService {
+
+    private final Map<String, CompletableFuture<AnalysisHistoryDTO>> inFlight = new ConcurrentHashMap<>();
+
+    private final PostureGraphClient postureGraphClient;
+    private final AnalysisHistoryService analysisHistoryService;
+    private final PostureAnalysisResultCache postureAnalysisResultCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${posture-analysis.dedup.enabled:true}")
+    private boolean dedupEnabled;
+
+    // 단일 이미지 분석 (idempotencyKey는 선택)
+    public AnalysisHistoryDTO analyze(int userId, String imageUrl, String mode, String idempotencyKey) {
+        String requestKey = requestKey(userId, idempotencyKey, imageUrl, null, mode);
+        return deduplicate(requestKey, () -> runAnalyze(userId, imageUrl, mode));
+    }
+
+    // 정면/측면 merge 분석 (idempotencyKey는 선택)
+    public AnalysisHistoryDTO analyzeMerge(int userId, String frontImageUrl, String sideImageUrl, String idempotencyKey) {
+        String requestKey = requestKey(userId, idempotencyKey, frontImageUrl, sideImageUrl, null);
+        return deduplicate(requestKey, () -> runAnalyzeMerge(userId, frontImageUrl, sideImageUrl));
+    }
+
+    private AnalysisHistoryDTO deduplicate(String requestKey, Supplier<AnalysisHistoryDTO> analysis) {
+        if (!dedupEnabled) {
+            return analysis.get();
+        }
+        String key = PostureAnalysisResultCache.hash(requestKey);
+
+        AnalysisHistoryDTO cached = postureAnalysisResultCache.get(key);
+        if (cached != null) {
+            recordDedup("cache_hit");
+            return cached;
+        }
+
+        // 이 서버에서 실행 중인 같은 요청이 있으면 그 결과 공유
+        CompletableFuture<AnalysisHistoryDTO> mine = new CompletableFuture<>();
+        CompletableFuture<AnalysisHistoryDTO> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            recordDedup("coalesced");
+            return join(existing);
+        }
+
+        boolean claimed = false;
+        try {
+            claimed = postureAnalysisResultCache.tryClaim(key);
+            if (!claimed) {
+                // 다른 서버에서 실행 중이면 결과 대기 (실패/타임아웃 시 직접 실행)
+                AnalysisHistoryDTO remote = postureAnalysisResultCache.awaitResult(key);
+                if (remote != null) {
+                    recordDedup("remote_wait");
+                    mine.complete(remote);
+                    return remote;
+                }
+            }
+            AnalysisHistoryDTO result = analysis.get();
+            postureAnalysisResultCache.put(key, result);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+            if (claimed) {
+                postureAnalysisResultCache.release(key);
+            }
+        }
+    }
+
+    private AnalysisHistoryDTO join(CompletableFuture<AnalysisHistoryDTO> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void recordDedup(String result) {
+        meterRegistry.counter("posture.analysis.dedup", "result", result).increment();
+    }
+
+    // 중복 판단 기준 (Idempotency-Key가 있으면 키 우선)
+    private String requestKey(int userId, String idempotencyKey, String frontImageUrl, String sideImageUrl, String mode) {
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            return userId + "|key|" + idempotencyKey.strip();
+        }
+        return userId + "|" + frontImageUrl + "|" + sideImageUrl + "|" + mode;
+    }
+
+    // 단일 이미지 분석 후 저장
+    @SuppressWarnings("unchecked")
+    private AnalysisHistoryDTO runAnalyze(int userId, String imageUrl, String mode) {
+        // 1. Python 서버에 분석 요청 (Cloudinary URL 사용)
+        Map<String, Object> result = postureGraphClient.analyzeWithGraph(imageUrl, mode);
+
+        // 2. 결과 DTO 생성
+        AnalysisHistoryDTO dto = new AnalysisHistoryDTO();
+        dto.setUserId(userId);
+        dto.setFrontImageUrl(imageUrl);
+        applyCommonFields(dto, result);
+
+        // --- measurements 항상 DTO에 넣기 ---
+        Object poseDataObj = result.get("pose_data");
+        if (poseDataObj instanceof Map) {
+            Object measurementsObj = ((Map<String, Object>) poseDataObj).get("measurements");
+            log.debug("[단일] measurements: {}", measurementsObj);
+            if (measurementsObj instanceof Map) {
+                dto.setMeasurements((Map<String, Object>) measurementsObj);
+            }
+        }
+
+        // 3. DB 저장 (id 포함 DTO 반환)
+        return analysisHistoryService.createAnalysisHistory(dto, userId);
+    }
+
+    // 정면/측면 이미지 merge 분석 후 저장
+    private AnalysisHistoryDTO runAnalyzeMerge(int userId, String frontImageUrl, String sideImageUrl) {
+        // 1. Python 서버에 merge 분석 요청
+        Map<String, Object> result = postureGraphClient.analyzeWithGraphMerge(frontImageUrl, sideImageUrl);
+
+        // 2. 결과 DTO 생성
+        AnalysisHistoryDTO dto = new AnalysisHistoryDTO();
+        dto.setUserId(userId);
+        dto.setFrontImageUrl(frontImageUrl);
+        dto.setSideImageUrl(sideImageUrl);
+        applyCommonFields(dto, result);
+
+        // --- merge measurements 합치기 (측면 값은 null이 아닐 때만 덮어씀) ---
+        Map<String, Object> mergedMeasurements = new HashMap<>();
+        Map<String, Object> frontMeasurements = readMeasurements(result.get("front_pose_data"), "front");
+        if (frontMeasurements != null) {
+            mergedMeasurements.putAll(frontMeasurements);
+        }
+        Map<String, Object> sideMeasurements = readMeasurements(result.get("side_pose_data"), "side");
+        if (sideMeasurements != null) {
+            sideMeasurements.forEach((key, value) -> {
+                if (value != null) {
+                    mergedMeasurements.put(key, value);
+                }
+            });
+        }
+        if (!mergedMeasurements.isEmpty()) {
+            dto.setMeasurements(mergedMeasurements);
+        }
+
+        // 3. DB 저장 (id 포함 DTO 반환)
+        return analysisHistoryService.createAnalysisHistory(dto, userId);
+    }
+
+    // 진단/레이더 차트/점수/피드백/추천 운동 (단일/merge 공통)
+    @SuppressWarnings("unchecked")
+    private void applyCommonFields(AnalysisHistoryDTO dto, Map<String, Object> result) {
+        // Handle diagnosis field - convert Map to JSON string if needed
+        Object diagnosisObj = result.get("diagnosis");
+        if (diagnosisObj instanceof Map) {
+            try {
+                dto.setDiagnosis(JsonMapper.builder().build().writeValueAsString(diagnosisObj));
+            } catch (Exception e) {
+                dto.setDiagnosis("진단 정보 변환 실패");
+            }
+        } else if (diagnosisObj instanceof String) {
+            dto.setDiagnosis((String) diagnosisObj);
+        } else if (diagnosisObj == null) {
+            dto.setDiagnosis("진단 정보가 없습니다.");
+        } else {
+            dto.setDiagnosis(diagnosisObj.toString());
+        }
+
+        dto.setRadarChartUrl((String) result.get("radar_chart_url"));
+
+        // 점수 등 추가 필드도 result에서 추출해 dto에 set
+        if (result.get("spineCurvScore") != null) dto.setSpineCurvScore((Integer) result.get("spineCurvScore"));
+        if (result.get("spineScolScore") != null) dto.setSpineScolScore((Integer) result.get("spineScolScore"));
+        if (result.get("pelvicScore") != null) dto.setPelvicScore((Integer) result.get("pelvicScore"));
+        if (result.get("neckScore") != null) dto.setNeckScore((Integer) result.get("neckScore"));
+        if (result.get("shoulderScore") != null) dto.setShoulderScore((Integer) result.get("shoulderScore"));
+        Object feedbackObj = result.get("feedback");
+        if (feedbackObj instanceof Map) {
+            dto.setFeedback((Map<String, Object>) feedbackObj);
+        }
+
+        Object recommendedExerciseObj = result.get("recommended_exercise");
+        if (recommendedExerciseObj instanceof Map) {
+            dto.setRecommendedExercise((Map<String, Object>) recommendedExerciseObj);
+        }
+    }
+
+    // pose_data의 measurements 추출 (JSON 문자열이면 Map으로 변환, 실패 시 null)
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readMeasurements(Object poseDataObj, String side) {
+        if (!(poseDataObj instanceof Map)) {
+            return null;
+        }
+        Object measurementsObj = ((Map<String, Object>) poseDataObj).get("measurements");
+        log.debug("[merge] {} measurements: {}", side, measurementsObj);
+        if (measurementsObj instanceof Map) {
+            return (Map<String, Object>) measurementsObj;
+        }
+        if (measurementsObj instanceof String) {
+            try {
+                return JsonMapper.builder().build().readValue((String) measurementsObj, Map.class);
+            } catch (Exception e) {
+                // 변환 실패 시 무시
+            }
+        }
+        return null;
+    }
+}
@@ -1,18 +1,26 @@
 package org.synergym.backendapi.service;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.http.MediaType;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class PostureGraphClient {
-    private final WebClient webClient = WebClient.create("http://localhost:8000"); // Python 서버 주소
+    private final WebClient webClient;
+    private final FastApiResilience fastApiResilience;
+
+    @Value("${fastapi.timeout.posture-analysis:90s}")
+    private Duration timeout;
 
     public Map<String, Object> analyzeWithGraph(String imageUrl, String mode) {
         Map<String, String> request = new HashMap<>();
@@ -22,12 +30,14 @@ public class PostureGraphClient {
         log.info("Sending request to Python server - Image URL: {}, Mode: {}", imageUrl, mode);
 
         try {
-            Map<String, Object> result = webClient.post()
-                    .uri("/analyze-graph")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+            Map<String, Object> result = fastApiResilience.protect(FastApiResilience.POSTURE_ANALYSIS,
+                    webClient.post()
+                            .uri("/analyze-graph")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(request)
+                            .retrieve()
+                            .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                            .timeout(timeout))
                     .block();
 
             log.info("Received response from Python server: {}", result);
@@ -49,12 +59,14 @@ public class PostureGraphClient {
         log.info("Sending merge request to Python server - Front: {}, Side: {}", frontImageUrl, sideImageUrl);
 
         try {
-            Map<String, Object> result = webClient.post()
-                    .uri("/analyze-graph/merge")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+            Map<String, Object> result = fastApiResilience.protect(FastApiResilience.POSTURE_ANALYSIS,
+                    webClient.post()
+                            .uri("/analyze-graph/merge")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(request)
+                            .retrieve()
+                            .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                            .timeout(timeout))
                     .block();
 
             log.info("Received merge response from Python server: {}", result);
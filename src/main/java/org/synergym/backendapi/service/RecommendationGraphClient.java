@@ -1,5 +1,7 @@
 package org.synergym.backendapi.service;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -9,6 +11,7 @@ import org.synergym.backendapi.dto.RecommendationPayloadDTO;
 import org.synergym.backendapi.dto.RecommendationResponseDTO;
 import org.synergym.backendapi.dto.ExerciseDTO;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -16,14 +19,19 @@ import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class RecommendationGraphClient {
-    private final WebClient webClient = WebClient.create("http://localhost:8000"); // Python 서버 주소
+    private final WebClient webClient;
+    private final FastApiResilience fastApiResilience;
+
+    @Value("${fastapi.timeout.recommendation:60s}")
+    private Duration timeout;
 
     public RecommendationResponseDTO fetchRecommendations(RecommendationPayloadDTO payload) {
         log.info("AI 추천 서버에 요청을 보냅니다. Payload: {}", payload);
 
         try {
-            Map<String, Object> response = webClient.post()
+            Map<String, Object> response = fastApiResilience.protect(FastApiResilience.RECOMMENDATION, webClient.post()
                     .uri("/workflow/recommend-exercises")
                     .contentType(MediaType.APPLICATION_JSON)
                     .bodyValue(Map.of(
@@ -36,6 +44,7 @@ public class RecommendationGraphClient {
                     ))
                     .retrieve()
                     .bodyToMono(Map.class)
+                    .timeout(timeout))
                     .block();
 
             log.info("AI 서버로부터 응답을 받았습니다: {}", response);
@@ -0,0 +1,103 @@
+package org.synergym.backendapi.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.synergym.backendapi.repository.SearchIndexRepository;
+import org.synergym.backendapi.repository.SearchIndexRepository.UnindexedRow;
+import org.synergym.backendapi.util.NgramTokenizer;
+
+import java.util.List;
+
+/**
+ * 게시글/댓글 전문 검색 색인
+ * - 작성/수정 시 제목/내용을 bigram으로 토큰화하여 tsvector 컬럼에 저장 (GIN 인덱스)
+ * - 검색어도 같은 방식으로 토큰화해 모든 토큰을 포함하는 행을 ts_rank 관련도순으로 조회
+ * - 시작 시 검색 컬럼/인덱스를 만들고 색인되지 않은 기존 데이터를 채움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexer {
+
+    private static final int BACKFILL_CHUNK_SIZE = 500;
+
+    private final SearchIndexRepository searchIndexRepository;
+
+    // 게시글 색인 (같은 트랜잭션에서 호출)
+    public void indexPost(int postId, String title, String content) {
+        searchIndexRepository.updatePost(postId, NgramTokenizer.toDocument(title), NgramTokenizer.toDocument(content));
+    }
+
+    // 댓글 색인 (같은 트랜잭션에서 호출)
+    public void indexComment(int commentId, String content) {
+        searchIndexRepository.updateComment(commentId, NgramTokenizer.toDocument(content));
+    }
+
+    // 관련도순 게시글 ID 페이지 조회
+    public Page<Integer> searchPostIds(String keyword, Pageable pageable) {
+        String query = NgramTokenizer.toQuery(keyword);
+        if (query == null) {
+            return Page.empty(pageable);
+        }
+        List<Integer> ids = searchIndexRepository.searchPostIds(query, pageable.getPageSize(), pageable.getOffset());
+        return new PageImpl<>(ids, pageable, searchIndexRepository.countPosts(query));
+    }
+
+    // 관련도순 댓글 ID 페이지 조회
+    public Page<Integer> searchCommentIds(String keyword, Pageable pageable) {
+        String query = NgramTokenizer.toQuery(keyword);
+        if (query == null) {
+            return Page.empty(pageable);
+        }
+        List<Integer> ids = searchIndexRepository.searchCommentIds(query, pageable.getPageSize(), pageable.getOffset());
+        return new PageImpl<>(ids, pageable, searchIndexRepository.countComments(query));
+    }
+
+    // 검색 컬럼 생성 후 기존 데이터 색인 (Hibernate 테이블 생성 이후 실행)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            searchIndexRepository.createSchema();
+            long posts = backfillPosts();
+            long comments = backfillComments();
+            if (posts > 0 || comments > 0) {
+                log.info("Search index backfill completed - posts: {}, comments: {}", posts, comments);
+            }
+        } catch (Exception e) {
+            log.error("Error initializing search index", e);
+        }
+    }
+
+    private long backfillPosts() {
+        long total = 0;
+        List<UnindexedRow> rows;
+        do {
+            rows = searchIndexRepository.findUnindexedPosts(BACKFILL_CHUNK_SIZE);
+            searchIndexRepository.updatePosts(rows.stream()
+                    .map(row -> new Object[]{
+                            NgramTokenizer.toDocument(row.title()), NgramTokenizer.toDocument(row.content()), row.id()})
+                    .toList());
+            total += rows.size();
+        } while (rows.size() >= BACKFILL_CHUNK_SIZE);
+        return total;
+    }
+
+    private long backfillComments() {
+        long total = 0;
+        List<UnindexedRow> rows;
+        do {
+            rows = searchIndexRepository.findUnindexedComments(BACKFILL_CHUNK_SIZE);
+            searchIndexRepository.updateComments(rows.stream()
+                    .map(row -> new Object[]{NgramTokenizer.toDocument(row.content()), row.id()})
+                    .toList());
+            total += rows.size();
+        } while (rows.size() >= BACKFILL_CHUNK_SIZE);
+        return total;
+    }
+}
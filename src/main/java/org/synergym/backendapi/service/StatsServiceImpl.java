@@ -1,14 +1,8 @@
 // src/main/java/org/synergym/backendapi/service/StatsServiceImpl.java
 package org.synergym.backendapi.service;
 
-import java.time.LocalDate;
-import java.util.List;
-import java.util.Map;
-
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.synergym.backendapi.dto.ComparisonStatsDTO;
-import org.synergym.backendapi.repository.ExerciseLogRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,34 +10,12 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class StatsServiceImpl implements StatsService {
 
-    private final ExerciseLogRepository exerciseLogRepository;
+    private final ExerciseActivityDistribution exerciseActivityDistribution;
 
     @Override
-    @Transactional(readOnly = true)
     public ComparisonStatsDTO getComparisonStats(Integer userId) {
-        LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusDays(30); // 최근 30일간의 기록으로 비교
-
-        // 모든 사용자의 30일간 운동 횟수를 조회
-        List<Map<String, Object>> userExerciseCounts = exerciseLogRepository.countLogsGroupByUser(startDate, endDate);
-
-        // 대상 사용자의 운동 횟수 찾기
-        long targetUserCount = userExerciseCounts.stream()
-                .filter(map -> ((Number) map.get("userId")).longValue() == userId)
-                .map(map -> (Long) map.get("count"))
-                .findFirst()
-                .orElse(0L);
-
-        // 대상 사용자보다 적게 운동한 사용자 수 계산
-        long usersWithLessCount = userExerciseCounts.stream()
-                .filter(map -> (Long) map.get("count") < targetUserCount)
-                .count();
-
-        // 백분위 계산
-        double percentile = 0.0;
-        if (!userExerciseCounts.isEmpty()) {
-            percentile = (double) usersWithLessCount / userExerciseCounts.size() * 100;
-        }
+        // 최근 30일 운동 횟수 분포에서 백분위 조회 (분포는 주기적으로 미리 계산)
+        double percentile = exerciseActivityDistribution.percentileOf(userId);
 
         // 코멘트 생성
         String comment;
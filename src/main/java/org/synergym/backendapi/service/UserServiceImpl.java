@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -19,6 +20,7 @@ import org.synergym.backendapi.repository.UserRepository;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,14 +31,16 @@ public class UserServiceImpl implements UserService {
     private final EmailService emailService;
     private final UserBadgeRepository userBadgeRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 생성자를 통한 의존성 주입
     @Autowired
-    public UserServiceImpl(UserRepository userRepository, EmailService emailService, UserBadgeRepository userBadgeRepository, ObjectMapper objectMapper) {
+    public UserServiceImpl(UserRepository userRepository, EmailService emailService, UserBadgeRepository userBadgeRepository, ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.emailService = emailService;
         this.userBadgeRepository = userBadgeRepository;
         this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     // ID로 User 조회, 없으면 예외 발생
@@ -88,6 +92,12 @@ public class UserServiceImpl implements UserService {
     public UserDTO updateUser(int id, UserDTO userDTO, MultipartFile profileImage, boolean removeImage) throws IOException {
         User user = findUserById(id);
 
+        // 성별/생년이 바뀌면 대시보드 일별 집계에서 이 사용자의 분석 날짜 다시 계산
+        if (!Objects.equals(user.getGender(), userDTO.getGender())
+                || !Objects.equals(user.getBirthday(), userDTO.getBirthday())) {
+            eventPublisher.publishEvent(DashboardRollupChangedEvent.ofUser(user.getId()));
+        }
+
         // 기본 정보 업데이트
         user.updateName(userDTO.getName());
         user.updateGoal(userDTO.getGoal());
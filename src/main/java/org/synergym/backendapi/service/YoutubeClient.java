@@ -1,29 +1,33 @@
 package org.synergym.backendapi.service;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.synergym.backendapi.dto.ChatResponseDTO;
+
+import java.time.Duration;
 import java.util.Map;
 
 @Service
+@RequiredArgsConstructor
 public class YoutubeClient {
-    private final WebClient webClient = WebClient.create("http://localhost:8000");
+    private final WebClient webClient;
+    private final FastApiResilience fastApiResilience;
+
+    @Value("${fastapi.timeout.youtube:60s}")
+    private Duration timeout;
 
     public ChatResponseDTO sendYoutubeRequest(Map<String, Object> requestBody, String type) {
         requestBody.put("type", type);
         try {
-            // 원본 JSON 및 파싱 결과 로그 제거
-            webClient.post()
-                    .uri("/youtube")
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-            ChatResponseDTO response = webClient.post()
-                    .uri("/youtube")
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(ChatResponseDTO.class)
+            ChatResponseDTO response = fastApiResilience.protect(FastApiResilience.YOUTUBE,
+                    webClient.post()
+                            .uri("/youtube")
+                            .bodyValue(requestBody)
+                            .retrieve()
+                            .bodyToMono(ChatResponseDTO.class)
+                            .timeout(timeout))
                     .block();
             return response;
         } catch (Exception e) {
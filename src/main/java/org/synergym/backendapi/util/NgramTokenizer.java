@@ -0,0 +1,76 @@
+package org.synergym.backendapi.util;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색용 n-gram 토크나이저
+ * - 한국어는 띄어쓰기 단위가 길고 조사가 붙어 형태소 분석 없이는 단어 검색이 어려우므로
+ *   문자/숫자 구간을 2글자 단위(bigram)로 잘라 색인
+ * - 예: "하체운동을" -> 하체, 체운, 운동, 동을
+ * - 결과 토큰은 문자/숫자로만 이루어져 tsvector/tsquery 문자열에 그대로 사용 가능
+ */
+public final class NgramTokenizer {
+
+    private static final int GRAM_SIZE = 2;
+
+    private NgramTokenizer() {
+    }
+
+    // 문서 색인용 토큰 (공백 구분, CAST(? AS tsvector)에 사용)
+    public static String toDocument(String text) {
+        return String.join(" ", tokenize(text));
+    }
+
+    /**
+     * 검색어를 tsquery 문자열로 변환 (모든 토큰 AND)
+     * 한 글자 단어는 해당 글자로 시작하는 토큰 전방 일치
+     * @return 검색 가능한 토큰이 없으면 null
+     */
+    public static String toQuery(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(keyword)) {
+            if (word.length() < GRAM_SIZE) {
+                terms.add(word + ":*");
+            } else {
+                terms.addAll(ngrams(word));
+            }
+        }
+        return terms.isEmpty() ? null : String.join(" & ", terms);
+    }
+
+    public static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            if (word.length() < GRAM_SIZE) {
+                tokens.add(word);
+            } else {
+                tokens.addAll(ngrams(word));
+            }
+        }
+        return tokens;
+    }
+
+    // 정규화(NFKC, 소문자) 후 문자/숫자가 아닌 글자를 기준으로 분리
+    private static List<String> words(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return Arrays.stream(normalized.split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    private static Set<String> ngrams(String word) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= word.length(); i++) {
+            grams.add(word.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,64 @@
+package org.synergym.backendapi.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 게시글 피드 커서 (keyset 페이지네이션)
+ * - 마지막으로 내려준 게시글의 정렬 키와 게시글 ID를 담아 다음 페이지 조회 조건으로 사용
+ * - 최신순: (createdAt, postId), 인기순: (likeCount, postId)
+ * - 클라이언트에는 Base64(URL-safe) 문자열로 전달
+ */
+public record PostFeedCursor(String sortKey, int postId) {
+
+    private static final String SEPARATOR = "|";
+
+    // 첫 페이지 조회용 (모든 게시글보다 뒤에 있는 값)
+    public static final LocalDateTime FIRST_PAGE_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    public static final int FIRST_PAGE_LIKE_COUNT = Integer.MAX_VALUE;
+    public static final int FIRST_PAGE_POST_ID = Integer.MAX_VALUE;
+
+    public static PostFeedCursor of(LocalDateTime createdAt, int postId) {
+        return new PostFeedCursor(createdAt.toString(), postId);
+    }
+
+    public static PostFeedCursor of(int likeCount, int postId) {
+        return new PostFeedCursor(String.valueOf(likeCount), postId);
+    }
+
+    public String encode() {
+        String raw = sortKey + SEPARATOR + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     * @throws IllegalStateException 형식이 올바르지 않은 경우
+     */
+    public static PostFeedCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(SEPARATOR);
+            return new PostFeedCursor(raw.substring(0, index), Integer.parseInt(raw.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("잘못된 커서입니다.");
+        }
+    }
+
+    public LocalDateTime createdAt() {
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("잘못된 커서입니다.");
+        }
+    }
+
+    public int likeCount() {
+        try {
+            return Integer.parseInt(sortKey);
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -347,7 +347,7 @@ class CommentServiceTest {
         commentService.createComment(commentDTO2);
 
         // when
-        List<CommentDTO> result = commentService.searchComments("테스트");
+        List<CommentDTO> result = commentService.searchComments("테스트", PageRequest.of(0, 20)).getContent();
 
         // then
         assertThat(result).hasSize(1);
@@ -415,7 +415,7 @@ class CommentServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
         var postResult = commentService.getCommentsByPostIdWithPaging(testPostId1, pageable);
         var userResult = commentService.getCommentsByUserIdWithPaging(testUserId1, pageable);
-        List<CommentDTO> searchResult = commentService.searchComments("존재하지않는내용");
+        List<CommentDTO> searchResult = commentService.searchComments("존재하지않는내용", pageable).getContent();
 
         // then
         assertThat(postResult.getContent()).isEmpty();
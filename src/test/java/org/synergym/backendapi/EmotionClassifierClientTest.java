@@ -0,0 +1,126 @@
+package org.synergym.backendapi;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.synergym.backendapi.service.EmotionClassifierClient;
+import org.synergym.backendapi.service.EmotionResultCache;
+import org.synergym.backendapi.service.FastApiResilience;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmotionClassifierClientTest {
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private EmotionClassifierClient client;
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 배치로 모인 메모는 한 번에 전송되고 같은 메모는 한 번만 분류")
+    void completesFuturesFromOneBatch() throws Exception {
+        client = newClient(request -> Mono.just(jsonResponse(
+                "{\"results\":[{\"label\":\"JOY\",\"score\":0.9},{\"label\":\"SAD\",\"score\":0.8}]}")));
+
+        CompletableFuture<String> first = client.classifyAsync("오늘 운동 최고였다");
+        CompletableFuture<String> duplicate = client.classifyAsync("  오늘   운동 최고였다 ");
+        CompletableFuture<String> second = client.classifyAsync("너무 힘들었다");
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("JOY");
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo("JOY");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("SAD");
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("응답에 결과가 없는 메모는 unclassified")
+    void missingResultIsUnclassified() throws Exception {
+        client = newClient(request -> Mono.just(jsonResponse("{\"results\":[{\"label\":\"JOY\",\"score\":0.9}]}")));
+
+        CompletableFuture<String> first = client.classifyAsync("좋았다");
+        CompletableFuture<String> second = client.classifyAsync("그저 그랬다");
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("JOY");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(EmotionClassifierClient.UNCLASSIFIED);
+    }
+
+    @Test
+    @DisplayName("AI 서버 응답이 시간 안에 오지 않으면 unclassified")
+    void timeoutFallsBackToUnclassified() throws Exception {
+        client = newClient(request -> Mono.never());
+
+        CompletableFuture<String> result = client.classifyAsync("응답이 늦는 메모");
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(EmotionClassifierClient.UNCLASSIFIED);
+        assertThat(client.classify("다른 메모")).isEqualTo(EmotionClassifierClient.UNCLASSIFIED);
+    }
+
+    @Test
+    @DisplayName("AI 서버 오류 응답이면 unclassified")
+    void errorFallsBackToUnclassified() throws Exception {
+        client = newClient(request -> Mono.just(ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build()));
+
+        CompletableFuture<String> result = client.classifyAsync("오류가 나는 메모");
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(EmotionClassifierClient.UNCLASSIFIED);
+    }
+
+    @Test
+    @DisplayName("빈 메모는 전송하지 않고 unclassified")
+    void blankMemoIsNotSent() throws Exception {
+        client = newClient(request -> Mono.just(jsonResponse("{\"results\":[]}")));
+
+        assertThat(client.classifyAsync("   ").get()).isEqualTo(EmotionClassifierClient.UNCLASSIFIED);
+        assertThat(client.classifyAsync(null).get()).isEqualTo(EmotionClassifierClient.UNCLASSIFIED);
+        assertThat(requests.get()).isZero();
+    }
+
+    // 응답을 지정한 WebClient, 기본 설정 서킷 브레이커, 캐시 비활성화로 배치 클라이언트 생성
+    private EmotionClassifierClient newClient(ExchangeFunction exchange) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.incrementAndGet();
+                    return exchange.exchange(request);
+                })
+                .build();
+        FastApiResilience resilience = new FastApiResilience(CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults());
+        EmotionClassifierClient emotionClassifierClient =
+                new EmotionClassifierClient(webClient, resilience, new EmotionResultCache(null, null));
+        ReflectionTestUtils.setField(emotionClassifierClient, "timeout", Duration.ofMillis(300));
+        ReflectionTestUtils.setField(emotionClassifierClient, "batchEnabled", true);
+        ReflectionTestUtils.setField(emotionClassifierClient, "batchPath", "/emotion/batch");
+        ReflectionTestUtils.setField(emotionClassifierClient, "batchMaxSize", 32);
+        ReflectionTestUtils.setField(emotionClassifierClient, "batchMaxWaitMs", 200L);
+        ReflectionTestUtils.setField(emotionClassifierClient, "batchMaxInFlight", 4);
+        ReflectionTestUtils.setField(emotionClassifierClient, "batchQueueCapacity", 256);
+        emotionClassifierClient.start();
+        return emotionClassifierClient;
+    }
+
+    private ClientResponse jsonResponse(String body) {
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+}
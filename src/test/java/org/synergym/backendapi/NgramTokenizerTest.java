@@ -0,0 +1,38 @@
+package org.synergym.backendapi;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.synergym.backendapi.util.NgramTokenizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramTokenizerTest {
+
+    @Test
+    @DisplayName("한국어 문장을 bigram으로 토큰화")
+    void tokenizeKorean() {
+        assertThat(NgramTokenizer.tokenize("하체운동을 했어요!"))
+                .containsExactly("하체", "체운", "운동", "동을", "했어", "어요");
+    }
+
+    @Test
+    @DisplayName("영문은 소문자로 정규화하고 한 글자 단어는 그대로 유지")
+    void tokenizeLatinAndSingleCharacter() {
+        assertThat(NgramTokenizer.tokenize("Squat 팔"))
+                .containsExactly("sq", "qu", "ua", "at", "팔");
+    }
+
+    @Test
+    @DisplayName("검색어는 모든 토큰 AND, 한 글자 단어는 전방 일치")
+    void toQuery() {
+        assertThat(NgramTokenizer.toQuery("운동 팔")).isEqualTo("운동 & 팔:*");
+        assertThat(NgramTokenizer.toQuery("테스트")).isEqualTo("테스 & 스트");
+    }
+
+    @Test
+    @DisplayName("검색 가능한 토큰이 없으면 null")
+    void toQueryWithoutTokens() {
+        assertThat(NgramTokenizer.toQuery("  !!  ")).isNull();
+        assertThat(NgramTokenizer.toQuery(null)).isNull();
+    }
+}
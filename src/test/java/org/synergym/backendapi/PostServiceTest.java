@@ -195,7 +195,7 @@ public class PostServiceTest {
     void searchPosts() {
         System.out.println("--- 게시글 검색 테스트 ---");
         
-        List<PostDTO> searchResults = postService.searchPosts("테스트");
+        List<PostDTO> searchResults = postService.searchPosts("테스트", PageRequest.of(0, 20)).getContent();
         System.out.println("'테스트' 검색 결과 개수: " + searchResults.size());
         
         searchResults.forEach(post -> 
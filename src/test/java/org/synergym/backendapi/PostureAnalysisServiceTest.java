@@ -0,0 +1,164 @@
+package org.synergym.backendapi;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.synergym.backendapi.dto.AnalysisHistoryDTO;
+import org.synergym.backendapi.service.AnalysisHistoryService;
+import org.synergym.backendapi.service.PostureAnalysisResultCache;
+import org.synergym.backendapi.service.PostureAnalysisService;
+import org.synergym.backendapi.service.PostureGraphClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostureAnalysisServiceTest {
+
+    private static final int USER_ID = 7;
+    private static final String IMAGE_URL = "https://example.com/posture.jpg";
+
+    private final PostureGraphClient postureGraphClient = mock(PostureGraphClient.class);
+    private final AnalysisHistoryService analysisHistoryService = mock(AnalysisHistoryService.class);
+    private final PostureAnalysisResultCache postureAnalysisResultCache = mock(PostureAnalysisResultCache.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    // 첫 번째 분석이 시작됐음을 알림 / 분석 완료를 막아 둠
+    private final CountDownLatch analysisStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseAnalysis = new CountDownLatch(1);
+
+    private PostureAnalysisService postureAnalysisService;
+
+    @BeforeEach
+    void setUp() {
+        // Redis 결과 캐시 없음, 다른 서버에서 실행 중인 분석 없음
+        when(postureAnalysisResultCache.get(anyString())).thenReturn(null);
+        when(postureAnalysisResultCache.tryClaim(anyString())).thenReturn(true);
+        when(analysisHistoryService.createAnalysisHistory(any(AnalysisHistoryDTO.class), anyInt()))
+                .thenAnswer(invocation -> {
+                    AnalysisHistoryDTO dto = invocation.getArgument(0);
+                    dto.setId(100);
+                    return dto;
+                });
+
+        postureAnalysisService = new PostureAnalysisService(postureGraphClient, analysisHistoryService,
+                postureAnalysisResultCache, meterRegistry);
+        ReflectionTestUtils.setField(postureAnalysisService, "dedupEnabled", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseAnalysis.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 요청은 한 번만 분석하고 같은 분석기록 반환")
+    void coalescesConcurrentIdenticalRequests() throws Exception {
+        when(postureGraphClient.analyzeWithGraph(anyString(), any())).thenAnswer(invocation -> {
+            analysisStarted.countDown();
+            releaseAnalysis.await(5, TimeUnit.SECONDS);
+            return Map.of("diagnosis", "정상", "neckScore", 4);
+        });
+
+        Future<AnalysisHistoryDTO> first = executor.submit(
+                () -> postureAnalysisService.analyze(USER_ID, IMAGE_URL, "front", null));
+        assertThat(analysisStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        List<Future<AnalysisHistoryDTO>> followers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            followers.add(executor.submit(() -> postureAnalysisService.analyze(USER_ID, IMAGE_URL, "front", null)));
+        }
+        awaitCoalesced(3);
+        releaseAnalysis.countDown();
+
+        AnalysisHistoryDTO result = first.get(5, TimeUnit.SECONDS);
+        assertThat(result.getId()).isEqualTo(100);
+        for (Future<AnalysisHistoryDTO> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(result);
+        }
+        verify(postureGraphClient, times(1)).analyzeWithGraph(IMAGE_URL, "front");
+        verify(analysisHistoryService, times(1)).createAnalysisHistory(any(AnalysisHistoryDTO.class), anyInt());
+        verify(postureAnalysisResultCache, times(1)).put(anyString(), any(AnalysisHistoryDTO.class));
+    }
+
+    @Test
+    @DisplayName("함께 기다리던 요청도 분석 실패 예외를 그대로 받음")
+    void coalescedRequestsReceiveFailure() throws Exception {
+        when(postureGraphClient.analyzeWithGraph(anyString(), any())).thenAnswer(invocation -> {
+            analysisStarted.countDown();
+            releaseAnalysis.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("분석 서버 오류");
+        });
+
+        Future<AnalysisHistoryDTO> first = executor.submit(
+                () -> postureAnalysisService.analyze(USER_ID, IMAGE_URL, "front", null));
+        assertThat(analysisStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<AnalysisHistoryDTO> follower = executor.submit(
+                () -> postureAnalysisService.analyze(USER_ID, IMAGE_URL, "front", null));
+        awaitCoalesced(1);
+        releaseAnalysis.countDown();
+
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        verify(postureGraphClient, times(1)).analyzeWithGraph(IMAGE_URL, "front");
+        verify(postureAnalysisResultCache, times(1)).release(anyString());
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key는 이미지가 달라도 한 번만 분석, 키가 다르면 각각 분석")
+    void coalescesByIdempotencyKey() throws Exception {
+        when(postureGraphClient.analyzeWithGraph(anyString(), any())).thenAnswer(invocation -> {
+            analysisStarted.countDown();
+            releaseAnalysis.await(5, TimeUnit.SECONDS);
+            return Map.of("diagnosis", "정상");
+        });
+
+        Future<AnalysisHistoryDTO> first = executor.submit(
+                () -> postureAnalysisService.analyze(USER_ID, IMAGE_URL, "front", "retry-1"));
+        assertThat(analysisStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<AnalysisHistoryDTO> retried = executor.submit(
+                () -> postureAnalysisService.analyze(USER_ID, "https://example.com/reupload.jpg", "front", "retry-1"));
+        awaitCoalesced(1);
+        Future<AnalysisHistoryDTO> other = executor.submit(
+                () -> postureAnalysisService.analyze(USER_ID, IMAGE_URL, "front", "retry-2"));
+        releaseAnalysis.countDown();
+
+        assertThat(retried.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+        assertThat(other.get(5, TimeUnit.SECONDS)).isNotSameAs(first.get());
+        verify(postureGraphClient, times(2)).analyzeWithGraph(anyString(), any());
+    }
+
+    // 실행 중인 분석을 함께 기다리는 요청 수가 expected가 될 때까지 대기
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.counter("posture.analysis.dedup", "result", "coalesced").count() < expected) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.synergym.backendapi.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.synergym.backendapi.service.ExerciseActivityDistribution.Snapshot;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ExerciseActivityDistributionTest {
+
+    @Test
+    @DisplayName("동점 사용자가 있어도 기존 전체 목록 비교와 같은 백분위")
+    void percentileMatchesListScanWithTies() {
+        Map<Integer, Long> counts = Map.of(1, 3L, 2, 3L, 3, 5L, 4, 1L, 5, 5L, 6, 8L);
+        Snapshot snapshot = ExerciseActivityDistribution.toSnapshot(0L,
+                ExerciseActivityDistribution.histogramOf(counts), counts);
+
+        assertThat(snapshot.percentile(3L)).isEqualTo(listScanPercentile(counts, 1));
+        assertThat(snapshot.percentile(3L)).isCloseTo(100.0 / 6, within(1e-9));
+        assertThat(snapshot.percentile(5L)).isEqualTo(listScanPercentile(counts, 3));
+        assertThat(snapshot.percentile(1L)).isZero();
+        assertThat(snapshot.percentile(8L)).isEqualTo(listScanPercentile(counts, 6));
+    }
+
+    @Test
+    @DisplayName("무작위 분포에서 모든 사용자 백분위가 기존 계산과 일치")
+    void percentileMatchesListScanForRandomCounts() {
+        Random random = new Random(42);
+        Map<Integer, Long> counts = new HashMap<>();
+        for (int userId = 1; userId <= 500; userId++) {
+            counts.put(userId, 1L + random.nextInt(30));
+        }
+        Snapshot snapshot = ExerciseActivityDistribution.toSnapshot(0L,
+                ExerciseActivityDistribution.histogramOf(counts), counts);
+
+        for (int userId = 1; userId <= 501; userId++) {
+            assertThat(snapshot.percentile(counts.getOrDefault(userId, 0L)))
+                    .isEqualTo(listScanPercentile(counts, userId));
+        }
+    }
+
+    @Test
+    @DisplayName("기간 내 운동 기록이 없는 사용자는 0, 집계 대상이 없으면 0")
+    void percentileForUsersWithoutLogs() {
+        Map<Integer, Long> counts = Map.of(1, 2L, 2, 4L);
+        Snapshot snapshot = ExerciseActivityDistribution.toSnapshot(0L,
+                ExerciseActivityDistribution.histogramOf(counts), counts);
+        assertThat(snapshot.percentile(0L)).isZero();
+        assertThat(snapshot.percentile(0L)).isEqualTo(listScanPercentile(counts, 99));
+
+        Snapshot empty = ExerciseActivityDistribution.toSnapshot(0L, new TreeMap<>(), Map.of());
+        assertThat(empty.totalUsers()).isZero();
+        assertThat(empty.percentile(0L)).isZero();
+    }
+
+    @Test
+    @DisplayName("히스토그램 문자열 변환 후 복원하면 같은 히스토그램")
+    void encodeDecodeRoundTrip() {
+        TreeMap<Long, Long> histogram = ExerciseActivityDistribution.histogramOf(
+                Map.of(1, 3L, 2, 3L, 3, 12L, 4, 1L));
+
+        String encoded = ExerciseActivityDistribution.encode(histogram);
+
+        assertThat(encoded).isEqualTo("1:1,3:2,12:1");
+        assertThat(ExerciseActivityDistribution.decode(encoded)).isEqualTo(histogram);
+    }
+
+    @Test
+    @DisplayName("빈 히스토그램은 빈 문자열로 변환되고 그대로 복원")
+    void encodeDecodeEmpty() {
+        String encoded = ExerciseActivityDistribution.encode(new TreeMap<>());
+
+        assertThat(encoded).isEmpty();
+        assertThat(ExerciseActivityDistribution.decode(encoded)).isEmpty();
+    }
+
+    // 기존 StatsServiceImpl 방식: 전체 목록에서 대상 사용자보다 적게 운동한 사용자 수를 센 비율
+    private double listScanPercentile(Map<Integer, Long> counts, int userId) {
+        long target = counts.getOrDefault(userId, 0L);
+        long usersWithLessCount = counts.values().stream().filter(count -> count < target).count();
+        return counts.isEmpty() ? 0.0 : (double) usersWithLessCount / counts.size() * 100;
+    }
+}